@@ -20,21 +20,24 @@ public class PaginationResponse<T> {
     @Schema(description = "List of items in current page")
     private List<T> content;
     
-    @Schema(description = "Current page number (0-indexed)", example = "0")
-    private int pageNumber;
+    @Schema(description = "Current page number (0-indexed), omitted in cursor mode", example = "0")
+    private Integer pageNumber;
     
     @Schema(description = "Number of items per page", example = "10")
     private int pageSize;
     
-    @Schema(description = "Total number of items", example = "100")
-    private long totalElements;
+    @Schema(description = "Total number of items, omitted in cursor mode", example = "100")
+    private Long totalElements;
     
-    @Schema(description = "Total number of pages", example = "10")
-    private int totalPages;
+    @Schema(description = "Total number of pages, omitted in cursor mode", example = "10")
+    private Integer totalPages;
     
     @Schema(description = "Is this the first page", example = "true")
     private boolean first;
     
     @Schema(description = "Is this the last page", example = "false")
     private boolean last;
+    
+    @Schema(description = "Opaque cursor for the next page, present in cursor mode when more items exist")
+    private String nextCursor;
 }
@@ -0,0 +1,13 @@
+package com.jendo.app.common.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// The status also applies where the JSON error body cannot be negotiated, e.g. event-stream requests
+@ResponseStatus(HttpStatus.FORBIDDEN)
+public class ForbiddenException extends RuntimeException {
+    
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.jendo.app.common.exceptions;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+public final class ForeignKeyViolations {
+
+    private static final Set<String> MISSING_PARENT_STATES = Set.of("23503", "23506");
+
+    private ForeignKeyViolations() {
+    }
+
+    public static boolean isMissingParent(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && MISSING_PARENT_STATES.contains(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
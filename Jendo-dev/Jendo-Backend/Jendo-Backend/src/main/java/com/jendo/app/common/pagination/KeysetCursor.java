@@ -0,0 +1,93 @@
+package com.jendo.app.common.pagination;
+
+import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.BadRequestException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String key;
+    private final Long id;
+
+    public static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    public static String encode(Object key, Long id) {
+        String raw = (key == null ? "" : key) + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(raw.substring(0, separator), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDateTime keyAsDateTime() {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    public LocalDate keyAsDate() {
+        if (key.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+
+    public static Pageable limit(int size) {
+        if (size < 1) {
+            throw new BadRequestException("Size must be at least 1");
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <E, D> PaginationResponse<D> toResponse(List<E> rows, int size, boolean first,
+                                                          Function<E, D> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        List<D> content = page.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return PaginationResponse.<D>builder()
+                .content(content)
+                .pageSize(size)
+                .first(first)
+                .last(!hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -41,8 +41,11 @@ public class AppointmentController {
     @Operation(summary = "Get all appointments", description = "Retrieves all appointments with pagination")
     public ResponseEntity<ApiResponse<PaginationResponse<AppointmentResponseDto>>> getAllAppointments(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<AppointmentResponseDto> appointments = appointmentService.getAllAppointments(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<AppointmentResponseDto> appointments = cursor != null
+                ? appointmentService.getAllAppointments(cursor, size)
+                : appointmentService.getAllAppointments(page, size);
         return ResponseEntity.ok(ApiResponse.success(appointments));
     }
 
@@ -51,9 +54,11 @@ public class AppointmentController {
     public ResponseEntity<ApiResponse<PaginationResponse<AppointmentResponseDto>>> getAppointmentsByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<AppointmentResponseDto> appointments = 
-                appointmentService.getAppointmentsByUserId(userId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<AppointmentResponseDto> appointments = cursor != null
+                ? appointmentService.getAppointmentsByUserId(userId, cursor, size)
+                : appointmentService.getAppointmentsByUserId(userId, page, size);
         return ResponseEntity.ok(ApiResponse.success(appointments));
     }
 
@@ -62,9 +67,11 @@ public class AppointmentController {
     public ResponseEntity<ApiResponse<PaginationResponse<AppointmentResponseDto>>> getAppointmentsByDoctorId(
             @PathVariable Long doctorId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<AppointmentResponseDto> appointments = 
-                appointmentService.getAppointmentsByDoctorId(doctorId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<AppointmentResponseDto> appointments = cursor != null
+                ? appointmentService.getAppointmentsByDoctorId(doctorId, cursor, size)
+                : appointmentService.getAppointmentsByDoctorId(doctorId, page, size);
         return ResponseEntity.ok(ApiResponse.success(appointments));
     }
 
@@ -2,17 +2,23 @@ package com.jendo.app.controller;
 
 import com.jendo.app.common.dto.ApiResponse;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.appointment.dto.DayAvailabilityDto;
+import com.jendo.app.domain.appointment.dto.SlotOfferDto;
+import com.jendo.app.domain.appointment.service.SlotAvailabilityService;
 import com.jendo.app.domain.doctor.dto.DoctorRequestDto;
 import com.jendo.app.domain.doctor.dto.DoctorResponseDto;
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
 import com.jendo.app.domain.doctor.service.DoctorService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +28,7 @@ import java.util.List;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final SlotAvailabilityService slotAvailabilityService;
 
     @PostMapping
     @Operation(summary = "Create a new doctor", description = "Adds a new doctor to the system")
@@ -42,8 +49,11 @@ public class DoctorController {
     @Operation(summary = "Get all doctors", description = "Retrieves all doctors with pagination")
     public ResponseEntity<ApiResponse<PaginationResponse<DoctorResponseDto>>> getAllDoctors(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<DoctorResponseDto> doctors = doctorService.getAllDoctors(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<DoctorResponseDto> doctors = cursor != null
+                ? doctorService.getAllDoctors(cursor, size)
+                : doctorService.getAllDoctors(page, size);
         return ResponseEntity.ok(ApiResponse.success(doctors));
     }
 
@@ -57,6 +67,17 @@ public class DoctorController {
         return ResponseEntity.ok(ApiResponse.success(doctors));
     }
 
+    @GetMapping("/specialty/{specialty}/slots")
+    @Operation(summary = "Find earliest slots by specialty", description = "Retrieves the earliest free appointment slots across all doctors of a specialty")
+    public ResponseEntity<ApiResponse<List<SlotOfferDto>>> findEarliestSlots(
+            @PathVariable String specialty,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<SlotOfferDto> slots = slotAvailabilityService.findEarliestSlots(specialty, from, to, limit);
+        return ResponseEntity.ok(ApiResponse.success(slots));
+    }
+
     @GetMapping("/available")
     @Operation(summary = "Get available doctors", description = "Retrieves all currently available doctors")
     public ResponseEntity<ApiResponse<List<DoctorResponseDto>>> getAvailableDoctors() {
@@ -64,6 +85,25 @@ public class DoctorController {
         return ResponseEntity.ok(ApiResponse.success(doctors));
     }
 
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete doctors", description = "Suggests doctors whose name, specialty or hospital starts with or resembles the query")
+    public ResponseEntity<ApiResponse<List<DoctorSuggestionDto>>> autocompleteDoctors(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<DoctorSuggestionDto> suggestions = doctorService.autocompleteDoctors(query, limit);
+        return ResponseEntity.ok(ApiResponse.success(suggestions));
+    }
+
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Get doctor availability", description = "Retrieves a doctor's free appointment slots for a date range")
+    public ResponseEntity<ApiResponse<List<DayAvailabilityDto>>> getAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<DayAvailabilityDto> availability = slotAvailabilityService.getAvailability(id, from, to);
+        return ResponseEntity.ok(ApiResponse.success(availability));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update doctor", description = "Updates an existing doctor's information")
     public ResponseEntity<ApiResponse<DoctorResponseDto>> updateDoctor(
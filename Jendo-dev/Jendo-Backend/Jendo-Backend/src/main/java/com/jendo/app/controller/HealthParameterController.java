@@ -42,9 +42,11 @@ public class HealthParameterController {
     public ResponseEntity<ApiResponse<PaginationResponse<HealthParameterResponseDto>>> getHealthParametersByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<HealthParameterResponseDto> params = 
-                healthParameterService.getHealthParametersByUserId(userId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<HealthParameterResponseDto> params = cursor != null
+                ? healthParameterService.getHealthParametersByUserId(userId, cursor, size)
+                : healthParameterService.getHealthParametersByUserId(userId, page, size);
         return ResponseEntity.ok(ApiResponse.success(params));
     }
 
@@ -4,6 +4,9 @@ import com.jendo.app.common.dto.ApiResponse;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
+import com.jendo.app.domain.jendotest.dto.PopulationAnalyticsDto;
+import com.jendo.app.domain.jendotest.service.JendoTestAnalyticsService;
 import com.jendo.app.domain.jendotest.service.JendoTestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +28,7 @@ import java.util.List;
 public class JendoTestController {
 
     private final JendoTestService jendoTestService;
+    private final JendoTestAnalyticsService jendoTestAnalyticsService;
 
     @PostMapping
     @Operation(summary = "Create a new Jendo test", description = "Records a new Jendo health test result")
@@ -45,8 +49,11 @@ public class JendoTestController {
     @Operation(summary = "Get all tests", description = "Retrieves all Jendo tests with pagination")
     public ResponseEntity<ApiResponse<PaginationResponse<JendoTestResponseDto>>> getAllTests(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JendoTestResponseDto> tests = jendoTestService.getAllTests(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        PaginationResponse<JendoTestResponseDto> tests = cursor != null
+                ? jendoTestService.getAllTests(cursor, size)
+                : jendoTestService.getAllTests(page, size);
         return ResponseEntity.ok(ApiResponse.success(tests));
     }
 
@@ -55,8 +62,17 @@ public class JendoTestController {
     public ResponseEntity<ApiResponse<PaginationResponse<JendoTestResponseDto>>> getTestsByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<JendoTestResponseDto> tests = jendoTestService.getTestsByUserId(userId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        PaginationResponse<JendoTestResponseDto> tests;
+        if (cursor != null) {
+            tests = jendoTestService.getTestsByUserId(userId, cursor, size);
+        } else if (!withTotal) {
+            tests = jendoTestService.getTestSliceByUserId(userId, page, size);
+        } else {
+            tests = jendoTestService.getTestsByUserId(userId, page, size);
+        }
         return ResponseEntity.ok(ApiResponse.success(tests));
     }
 
@@ -70,6 +86,39 @@ public class JendoTestController {
         return ResponseEntity.ok(ApiResponse.success(tests));
     }
 
+    @GetMapping("/user/{userId}/trend")
+    @Operation(summary = "Get test trend", description = "Retrieves daily, weekly or monthly aggregates of a user's tests")
+    public ResponseEntity<ApiResponse<List<JendoTestTrendDto>>> getTrend(
+            @PathVariable Long userId,
+            @Parameter(description = "Bucket size: daily, weekly or monthly") @RequestParam(defaultValue = "daily") String resolution,
+            @Parameter(description = "Start date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (yyyy-MM-dd)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<JendoTestTrendDto> trend = jendoTestService.getTrend(userId, resolution, startDate, endDate);
+        return ResponseEntity.ok(ApiResponse.success(trend));
+    }
+
+    @GetMapping("/blood-pressure/elevated")
+    @Operation(summary = "Get elevated blood pressure tests", description = "Retrieves tests whose systolic or diastolic pressure exceeds a threshold within the last N days")
+    public ResponseEntity<ApiResponse<PaginationResponse<JendoTestResponseDto>>> getElevatedBloodPressureTests(
+            @Parameter(description = "Restrict to one user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Systolic threshold (exclusive)") @RequestParam(required = false) Integer systolicAbove,
+            @Parameter(description = "Diastolic threshold (exclusive)") @RequestParam(required = false) Integer diastolicAbove,
+            @Parameter(description = "Look-back window in days") @RequestParam(defaultValue = "90") int days,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        PaginationResponse<JendoTestResponseDto> tests = jendoTestService.getElevatedBloodPressureTests(
+                userId, systolicAbove, diastolicAbove, days, page, size);
+        return ResponseEntity.ok(ApiResponse.success(tests));
+    }
+
+    @GetMapping("/analytics")
+    @Operation(summary = "Get population analytics", description = "Retrieves risk-level distribution, score percentiles and heart rate histogram per cohort")
+    public ResponseEntity<ApiResponse<PopulationAnalyticsDto>> getPopulationAnalytics(
+            @Parameter(description = "Split by: all, gender, age or nationality") @RequestParam(defaultValue = "all") String dimension) {
+        PopulationAnalyticsDto analytics = jendoTestAnalyticsService.getPopulationAnalytics(dimension);
+        return ResponseEntity.ok(ApiResponse.success(analytics));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update test", description = "Updates an existing Jendo test")
     public ResponseEntity<ApiResponse<JendoTestResponseDto>> updateTest(
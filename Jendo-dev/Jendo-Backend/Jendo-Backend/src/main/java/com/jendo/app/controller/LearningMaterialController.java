@@ -4,6 +4,7 @@ import com.jendo.app.common.dto.ApiResponse;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialRequestDto;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialResponseDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialSearchResponseDto;
 import com.jendo.app.domain.learningmaterial.service.LearningMaterialService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -41,9 +42,17 @@ public class LearningMaterialController {
     @Operation(summary = "Get all learning materials", description = "Retrieves all materials with pagination")
     public ResponseEntity<ApiResponse<PaginationResponse<LearningMaterialResponseDto>>> getAllLearningMaterials(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<LearningMaterialResponseDto> materials = 
-                learningMaterialService.getAllLearningMaterials(page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        PaginationResponse<LearningMaterialResponseDto> materials;
+        if (cursor != null) {
+            materials = learningMaterialService.getAllLearningMaterials(cursor, size);
+        } else if (!withTotal) {
+            materials = learningMaterialService.getLearningMaterialSlice(page, size);
+        } else {
+            materials = learningMaterialService.getAllLearningMaterials(page, size);
+        }
         return ResponseEntity.ok(ApiResponse.success(materials));
     }
 
@@ -52,20 +61,24 @@ public class LearningMaterialController {
     public ResponseEntity<ApiResponse<PaginationResponse<LearningMaterialResponseDto>>> getMaterialsByCategory(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<LearningMaterialResponseDto> materials = 
-                learningMaterialService.getLearningMaterialsByCategory(category, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        PaginationResponse<LearningMaterialResponseDto> materials = withTotal
+                ? learningMaterialService.getLearningMaterialsByCategory(category, page, size)
+                : learningMaterialService.getLearningMaterialSliceByCategory(category, page, size);
         return ResponseEntity.ok(ApiResponse.success(materials));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search materials", description = "Search learning materials by title")
-    public ResponseEntity<ApiResponse<PaginationResponse<LearningMaterialResponseDto>>> searchMaterials(
+    @Operation(summary = "Search materials", description = "Search learning materials by title, description, author and category, best matches first, with category and type counts")
+    public ResponseEntity<ApiResponse<LearningMaterialSearchResponseDto>> searchMaterials(
             @RequestParam String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String type,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<LearningMaterialResponseDto> materials = 
-                learningMaterialService.searchLearningMaterials(query, page, size);
+        LearningMaterialSearchResponseDto materials =
+                learningMaterialService.searchLearningMaterials(query, category, type, page, size);
         return ResponseEntity.ok(ApiResponse.success(materials));
     }
 
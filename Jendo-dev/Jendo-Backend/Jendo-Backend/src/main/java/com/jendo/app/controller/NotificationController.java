@@ -2,16 +2,21 @@ package com.jendo.app.controller;
 
 import com.jendo.app.common.dto.ApiResponse;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.ForbiddenException;
 import com.jendo.app.domain.notification.dto.NotificationRequestDto;
 import com.jendo.app.domain.notification.dto.NotificationResponseDto;
 import com.jendo.app.domain.notification.service.NotificationService;
+import com.jendo.app.security.JwtUtil;
+import com.jendo.app.security.VerifiedToken;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -44,9 +49,17 @@ public class NotificationController {
     public ResponseEntity<ApiResponse<PaginationResponse<NotificationResponseDto>>> getNotificationsByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<NotificationResponseDto> notifications = 
-                notificationService.getNotificationsByUserId(userId, page, size);
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
+        PaginationResponse<NotificationResponseDto> notifications;
+        if (cursor != null) {
+            notifications = notificationService.getNotificationsByUserId(userId, cursor, size);
+        } else if (!withTotal) {
+            notifications = notificationService.getNotificationSliceByUserId(userId, page, size);
+        } else {
+            notifications = notificationService.getNotificationsByUserId(userId, page, size);
+        }
         return ResponseEntity.ok(ApiResponse.success(notifications));
     }
 
@@ -64,6 +77,18 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(count));
     }
 
+    @GetMapping(path = "/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream notifications",
+            description = "Server-sent events with new notifications and unread count updates for a user")
+    public SseEmitter streamNotifications(
+            @PathVariable Long userId,
+            @RequestAttribute(name = JwtUtil.VERIFIED_TOKEN_ATTRIBUTE, required = false) VerifiedToken token) {
+        if (token == null || !userId.equals(token.getUserId())) {
+            throw new ForbiddenException("Notifications can only be streamed for the authenticated user");
+        }
+        return notificationService.subscribe(userId);
+    }
+
     @PatchMapping("/{id}/read")
     @Operation(summary = "Mark as read", description = "Marks a notification as read")
     public ResponseEntity<ApiResponse<NotificationResponseDto>> markAsRead(@PathVariable Long id) {
@@ -73,9 +98,9 @@ public class NotificationController {
 
     @PatchMapping("/user/{userId}/read-all")
     @Operation(summary = "Mark all as read", description = "Marks all notifications as read for a user")
-    public ResponseEntity<ApiResponse<Void>> markAllAsRead(@PathVariable Long userId) {
-        notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok(ApiResponse.success(null, "All notifications marked as read"));
+    public ResponseEntity<ApiResponse<Integer>> markAllAsRead(@PathVariable Long userId) {
+        int updated = notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok(ApiResponse.success(updated, "All notifications marked as read"));
     }
 
     @DeleteMapping("/{id}")
@@ -2,6 +2,10 @@ package com.jendo.app.controller;
 
 import com.jendo.app.common.dto.ApiResponse;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.healthrecord.dto.HealthRecordImportResultDto;
+import com.jendo.app.domain.healthrecord.service.HealthRecordFormat;
+import com.jendo.app.domain.healthrecord.service.HealthRecordExportService;
+import com.jendo.app.domain.healthrecord.service.HealthRecordImportService;
 import com.jendo.app.domain.user.dto.UserRequestDto;
 import com.jendo.app.domain.user.dto.UserResponseDto;
 import com.jendo.app.domain.user.dto.UserUpdateDto;
@@ -14,10 +18,19 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/api/users")
@@ -26,6 +39,8 @@ import org.springframework.security.core.Authentication;
 public class UserController {
 
     private final UserService userService;
+    private final HealthRecordExportService healthRecordExportService;
+    private final HealthRecordImportService healthRecordImportService;
 
     @PostMapping
     @Operation(summary = "Create a new user", description = "Creates a new user with the provided details")
@@ -72,13 +87,16 @@ public class UserController {
     @Operation(summary = "Get all users", description = "Retrieves all users with pagination")
     public ResponseEntity<ApiResponse<PaginationResponse<UserResponseDto>>> getAllUsers(
             @Parameter(description = "Page number (0-indexed)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
-        PaginationResponse<UserResponseDto> users = userService.getAllUsers(page, size);
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Keyset cursor, empty for the first page; omit for offset paging") @RequestParam(required = false) String cursor) {
+        PaginationResponse<UserResponseDto> users = cursor != null
+                ? userService.getAllUsers(cursor, size)
+                : userService.getAllUsers(page, size);
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search users", description = "Search users by name")
+    @Operation(summary = "Search users", description = "Search users by name, full name, email or phone, best matches first")
     public ResponseEntity<ApiResponse<PaginationResponse<UserResponseDto>>> searchUsers(
             @Parameter(description = "Search query") @RequestParam String query,
             @RequestParam(defaultValue = "0") int page,
@@ -87,6 +105,43 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(users));
     }
 
+    @GetMapping("/{id}/health-record/export")
+    @Operation(summary = "Export health record",
+            description = "Streams all Jendo tests, health parameters, appointments and reports of a user as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportHealthRecord(
+            @Parameter(description = "User ID") @PathVariable Long id,
+            @Parameter(description = "Export format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        HealthRecordFormat recordFormat = HealthRecordFormat.from(format);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = healthRecordExportService.exportHealthRecord(id, recordFormat, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(recordFormat.contentType()))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("health-record-" + id + "." + recordFormat.extension())
+                        .build()
+                        .toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PostMapping("/health-records/import")
+    @Operation(summary = "Import health records",
+            description = "Bulk imports Jendo tests and health parameters streamed as NDJSON or CSV in the export layout")
+    public ResponseEntity<ApiResponse<HealthRecordImportResultDto>> importHealthRecords(
+            @Parameter(description = "Upload format: ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        HealthRecordFormat recordFormat = HealthRecordFormat.from(format);
+        InputStream in = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, 64 * 1024) : body;
+        HealthRecordImportResultDto result = healthRecordImportService.importHealthRecords(in, recordFormat);
+        return ResponseEntity.ok(ApiResponse.success(result, "Imported " + result.getImported() + " of " + result.getProcessed() + " records"));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update user", description = "Updates an existing user")
     public ResponseEntity<ApiResponse<UserResponseDto>> updateUser(
@@ -0,0 +1,25 @@
+package com.jendo.app.domain.appointment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Free appointment slots of a doctor on one day")
+public class DayAvailabilityDto {
+
+    @Schema(description = "Day", example = "2024-01-20")
+    private LocalDate date;
+
+    @Schema(description = "Start times of the free slots", example = "[\"09:00:00\", \"09:30:00\"]")
+    private List<LocalTime> freeSlots;
+}
@@ -0,0 +1,30 @@
+package com.jendo.app.domain.appointment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A free appointment slot offered by a doctor")
+public class SlotOfferDto {
+
+    @Schema(description = "Doctor's ID", example = "1")
+    private Long doctorId;
+
+    @Schema(description = "Doctor's name", example = "Dr. Jane Smith")
+    private String doctorName;
+
+    @Schema(description = "Slot date", example = "2024-01-22")
+    private LocalDate date;
+
+    @Schema(description = "Slot start time", example = "09:00:00")
+    private LocalTime time;
+}
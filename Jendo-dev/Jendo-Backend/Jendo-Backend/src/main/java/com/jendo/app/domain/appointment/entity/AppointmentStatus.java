@@ -0,0 +1,37 @@
+package com.jendo.app.domain.appointment.entity;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+public enum AppointmentStatus {
+
+    SCHEDULED,
+    CONFIRMED,
+    COMPLETED,
+    CANCELLED;
+
+    public Set<AppointmentStatus> predecessors() {
+        return switch (this) {
+            case SCHEDULED -> EnumSet.noneOf(AppointmentStatus.class);
+            case CONFIRMED -> EnumSet.of(SCHEDULED);
+            case COMPLETED -> EnumSet.of(CONFIRMED);
+            case CANCELLED -> EnumSet.of(SCHEDULED, CONFIRMED);
+        };
+    }
+
+    public boolean canTransitionTo(AppointmentStatus target) {
+        return target.predecessors().contains(this);
+    }
+
+    public static AppointmentStatus from(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(status -> status.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown appointment status: " + value));
+    }
+}
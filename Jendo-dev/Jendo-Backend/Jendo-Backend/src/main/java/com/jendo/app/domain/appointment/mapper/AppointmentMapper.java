@@ -3,6 +3,7 @@ package com.jendo.app.domain.appointment.mapper;
 import com.jendo.app.domain.appointment.dto.AppointmentRequestDto;
 import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
 import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
 import com.jendo.app.domain.doctor.entity.Doctor;
 import com.jendo.app.domain.user.entity.User;
 import org.springframework.stereotype.Component;
@@ -22,15 +23,19 @@ public class AppointmentMapper {
                 .doctorName(dto.getDoctorName() != null ? dto.getDoctorName() : 
                         (doctor != null ? doctor.getName() : null))
                 .type(dto.getType())
-                .status(dto.getStatus() != null ? dto.getStatus() : "SCHEDULED")
+                .status(dto.getStatus() != null ? AppointmentStatus.from(dto.getStatus()) : AppointmentStatus.SCHEDULED)
                 .build();
     }
 
     public AppointmentResponseDto toResponseDto(Appointment entity) {
+        return toResponseDto(entity, entity.getUser().getFirstName() + " " + entity.getUser().getLastName());
+    }
+
+    public AppointmentResponseDto toResponseDto(Appointment entity, String userName) {
         return AppointmentResponseDto.builder()
                 .id(entity.getId())
                 .userId(entity.getUser().getId())
-                .userName(entity.getUser().getFirstName() + " " + entity.getUser().getLastName())
+                .userName(userName)
                 .doctorId(entity.getDoctor() != null ? entity.getDoctor().getId() : null)
                 .doctorName(entity.getDoctorName())
                 .email(entity.getEmail())
@@ -39,7 +44,7 @@ public class AppointmentMapper {
                 .specialty(entity.getSpecialty())
                 .qualifications(entity.getQualifications())
                 .type(entity.getType())
-                .status(entity.getStatus())
+                .status(entity.getStatus() != null ? entity.getStatus().name() : null)
                 .build();
     }
 }
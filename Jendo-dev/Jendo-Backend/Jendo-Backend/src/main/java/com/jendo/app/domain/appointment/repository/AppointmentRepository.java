@@ -1,24 +1,116 @@
 package com.jendo.app.domain.appointment.repository;
 
 import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
     
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Appointment> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
     Page<Appointment> findByUserId(Long userId, Pageable pageable);
     
+    @EntityGraph(attributePaths = "user")
     Page<Appointment> findByDoctorId(Long doctorId, Pageable pageable);
     
     List<Appointment> findByUserIdAndDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
     
-    List<Appointment> findByStatus(String status);
+    List<Appointment> findByStatus(AppointmentStatus status);
     
     List<Appointment> findByDoctorIdAndDate(Long doctorId, LocalDate date);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("select a.date as date, a.time as time from Appointment a where a.doctor.id = :doctorId "
+            + "and a.date between :from and :to "
+            + "and a.status <> com.jendo.app.domain.appointment.entity.AppointmentStatus.CANCELLED")
+    List<BookedSlot> findBookedSlots(@Param("doctorId") Long doctorId, @Param("from") LocalDate from,
+                                     @Param("to") LocalDate to);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Appointment a set a.status = :target, a.version = a.version + 1 "
+            + "where a.id = :id and a.status in :sources")
+    int transitionStatus(@Param("id") Long id, @Param("sources") Set<AppointmentStatus> sources,
+                         @Param("target") AppointmentStatus target);
+    
+    @Query("select a.status from Appointment a where a.id = :id")
+    Optional<AppointmentStatus> findStatusById(@Param("id") Long id);
+    
+    @EntityGraph(attributePaths = {"user", "doctor"})
+    @Query("select a from Appointment a where a.id = :id")
+    Optional<Appointment> findWithUserAndDoctorById(@Param("id") Long id);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.date is not null order by a.date desc, a.id desc")
+    List<Appointment> findKeysetFirstPage(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.date <= :date and (a.date < :date or a.id < :id) "
+            + "order by a.date desc, a.id desc")
+    List<Appointment> findKeysetPageAfter(@Param("date") LocalDate date,
+                                          @Param("id") Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.date is null and a.id < :id order by a.id desc")
+    List<Appointment> findKeysetPageAfterUndated(@Param("id") Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.user.id = :userId and a.date is not null "
+            + "order by a.date desc, a.id desc")
+    List<Appointment> findKeysetFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.user.id = :userId and a.date <= :date and (a.date < :date or a.id < :id) "
+            + "order by a.date desc, a.id desc")
+    List<Appointment> findKeysetPageByUserIdAfter(@Param("userId") Long userId, @Param("date") LocalDate date,
+                                                  @Param("id") Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.user.id = :userId and a.date is null and a.id < :id "
+            + "order by a.id desc")
+    List<Appointment> findKeysetPageByUserIdAfterUndated(@Param("userId") Long userId, @Param("id") Long id,
+                                                         Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.doctor.id = :doctorId and a.date is not null "
+            + "order by a.date desc, a.id desc")
+    List<Appointment> findKeysetFirstPageByDoctorId(@Param("doctorId") Long doctorId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.doctor.id = :doctorId and a.date <= :date and (a.date < :date or a.id < :id) "
+            + "order by a.date desc, a.id desc")
+    List<Appointment> findKeysetPageByDoctorIdAfter(@Param("doctorId") Long doctorId, @Param("date") LocalDate date,
+                                                    @Param("id") Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select a from Appointment a where a.doctor.id = :doctorId and a.date is null and a.id < :id "
+            + "order by a.id desc")
+    List<Appointment> findKeysetPageByDoctorIdAfterUndated(@Param("doctorId") Long doctorId, @Param("id") Long id,
+                                                           Pageable pageable);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Appointment a where a.user.id = :userId order by a.date, a.time, a.id")
+    Stream<Appointment> streamByUserId(@Param("userId") Long userId);
 }
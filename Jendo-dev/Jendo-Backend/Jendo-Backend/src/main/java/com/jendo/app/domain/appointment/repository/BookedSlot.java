@@ -0,0 +1,11 @@
+package com.jendo.app.domain.appointment.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface BookedSlot {
+
+    LocalDate getDate();
+
+    LocalTime getTime();
+}
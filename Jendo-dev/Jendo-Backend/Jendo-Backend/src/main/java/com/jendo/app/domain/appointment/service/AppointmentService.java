@@ -12,10 +12,16 @@ public interface AppointmentService {
     
     PaginationResponse<AppointmentResponseDto> getAllAppointments(int page, int size);
     
+    PaginationResponse<AppointmentResponseDto> getAllAppointments(String cursor, int size);
+    
     PaginationResponse<AppointmentResponseDto> getAppointmentsByUserId(Long userId, int page, int size);
     
+    PaginationResponse<AppointmentResponseDto> getAppointmentsByUserId(Long userId, String cursor, int size);
+    
     PaginationResponse<AppointmentResponseDto> getAppointmentsByDoctorId(Long doctorId, int page, int size);
     
+    PaginationResponse<AppointmentResponseDto> getAppointmentsByDoctorId(Long doctorId, String cursor, int size);
+    
     AppointmentResponseDto updateAppointment(Long id, AppointmentRequestDto request);
     
     AppointmentResponseDto updateAppointmentStatus(Long id, String status);
@@ -1,27 +1,47 @@
 package com.jendo.app.domain.appointment.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.common.exceptions.ConflictException;
+import com.jendo.app.common.exceptions.ForeignKeyViolations;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.appointment.dto.AppointmentRequestDto;
 import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
 import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
 import com.jendo.app.domain.appointment.mapper.AppointmentMapper;
 import com.jendo.app.domain.appointment.repository.AppointmentRepository;
 import com.jendo.app.domain.doctor.entity.Doctor;
 import com.jendo.app.domain.doctor.repository.DoctorRepository;
+import com.jendo.app.domain.doctor.service.AvailableDays;
 import com.jendo.app.domain.user.entity.User;
 import com.jendo.app.domain.user.repository.UserRepository;
+import com.jendo.app.domain.user.service.UserSummaryCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,18 +50,23 @@ import java.util.stream.Collectors;
 public class AppointmentServiceImpl implements AppointmentService {
 
     private static final Logger logger = LoggerFactory.getLogger(AppointmentServiceImpl.class);
+
+    private static final String SLOT_CONSTRAINT = "ux_appointments_doctor_slot";
     
     private final AppointmentRepository appointmentRepository;
     private final UserRepository userRepository;
     private final DoctorRepository doctorRepository;
     private final AppointmentMapper appointmentMapper;
+    private final BookedSlotIndex bookedSlotIndex;
+    private final SlotSchedule slotSchedule;
+    private final SpecialtySlotCache specialtySlotCache;
+    private final UserSummaryCache userSummaryCache;
 
     @Override
     public AppointmentResponseDto createAppointment(AppointmentRequestDto request) {
         logger.info("Creating new appointment for user ID: {}", request.getUserId());
         
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new NotFoundException("User", request.getUserId()));
+        User user = userRepository.getReferenceById(request.getUserId());
         
         Doctor doctor = null;
         if (request.getDoctorId() != null) {
@@ -50,10 +75,11 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
         
         Appointment appointment = appointmentMapper.toEntity(request, user, doctor);
-        appointment = appointmentRepository.save(appointment);
+        claimSlot(appointment, null);
+        appointment = saveBooking(appointment);
         
         logger.info("Appointment created successfully with ID: {}", appointment.getId());
-        return appointmentMapper.toResponseDto(appointment);
+        return appointmentMapper.toResponseDto(appointment, userSummaryCache.get(request.getUserId()).fullName());
     }
 
     @Override
@@ -74,6 +100,20 @@ public class AppointmentServiceImpl implements AppointmentService {
         return buildPaginationResponse(appointmentPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<AppointmentResponseDto> getAllAppointments(String cursor, int size) {
+        logger.info("Fetching all appointments - cursor: {}, size: {}", cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<Appointment> appointments = findKeysetPage(cursor, size,
+                pageable -> appointmentRepository.findKeysetFirstPage(pageable),
+                (date, id, pageable) -> appointmentRepository.findKeysetPageAfter(date, id, pageable),
+                (id, pageable) -> appointmentRepository.findKeysetPageAfterUndated(id, pageable));
+
+        return KeysetCursor.toResponse(appointments, size, first, appointmentMapper::toResponseDto,
+                appointment -> KeysetCursor.encode(appointment.getDate(), appointment.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<AppointmentResponseDto> getAppointmentsByUserId(Long userId, int page, int size) {
@@ -83,6 +123,20 @@ public class AppointmentServiceImpl implements AppointmentService {
         return buildPaginationResponse(appointmentPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<AppointmentResponseDto> getAppointmentsByUserId(Long userId, String cursor, int size) {
+        logger.info("Fetching appointments for user ID: {} - cursor: {}, size: {}", userId, cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<Appointment> appointments = findKeysetPage(cursor, size,
+                pageable -> appointmentRepository.findKeysetFirstPageByUserId(userId, pageable),
+                (date, id, pageable) -> appointmentRepository.findKeysetPageByUserIdAfter(userId, date, id, pageable),
+                (id, pageable) -> appointmentRepository.findKeysetPageByUserIdAfterUndated(userId, id, pageable));
+
+        return KeysetCursor.toResponse(appointments, size, first, appointmentMapper::toResponseDto,
+                appointment -> KeysetCursor.encode(appointment.getDate(), appointment.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<AppointmentResponseDto> getAppointmentsByDoctorId(Long doctorId, int page, int size) {
@@ -93,11 +147,30 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<AppointmentResponseDto> getAppointmentsByDoctorId(Long doctorId, String cursor, int size) {
+        logger.info("Fetching appointments for doctor ID: {} - cursor: {}, size: {}", doctorId, cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<Appointment> appointments = findKeysetPage(cursor, size,
+                pageable -> appointmentRepository.findKeysetFirstPageByDoctorId(doctorId, pageable),
+                (date, id, pageable) -> appointmentRepository.findKeysetPageByDoctorIdAfter(doctorId, date, id, pageable),
+                (id, pageable) -> appointmentRepository.findKeysetPageByDoctorIdAfterUndated(doctorId, id, pageable));
+
+        return KeysetCursor.toResponse(appointments, size, first, appointmentMapper::toResponseDto,
+                appointment -> KeysetCursor.encode(appointment.getDate(), appointment.getId()));
+    }
+
+    @Override
+    @Retryable(retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${appointments.retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${appointments.retry.initial-delay-ms:20}",
+                    maxDelayExpression = "${appointments.retry.max-delay-ms:200}", multiplier = 2, random = true))
     public AppointmentResponseDto updateAppointment(Long id, AppointmentRequestDto request) {
         logger.info("Updating appointment with ID: {}", id);
         
         Appointment appointment = appointmentRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Appointment", id));
+        SlotKey previousSlot = SlotKey.of(appointment);
         
         if (request.getDoctorId() != null) {
             Doctor doctor = doctorRepository.findById(request.getDoctorId())
@@ -112,9 +185,16 @@ public class AppointmentServiceImpl implements AppointmentService {
         if (request.getSpecialty() != null) appointment.setSpecialty(request.getSpecialty());
         if (request.getQualifications() != null) appointment.setQualifications(request.getQualifications());
         if (request.getType() != null) appointment.setType(request.getType());
-        if (request.getStatus() != null) appointment.setStatus(request.getStatus());
+        if (request.getStatus() != null) {
+            AppointmentStatus status = AppointmentStatus.from(request.getStatus());
+            if (status != appointment.getStatus() && !appointment.getStatus().canTransitionTo(status)) {
+                throw invalidTransition(appointment.getStatus(), status);
+            }
+            appointment.setStatus(status);
+        }
         
-        appointment = appointmentRepository.save(appointment);
+        moveSlot(appointment, previousSlot);
+        appointment = saveBooking(appointment);
         logger.info("Appointment updated successfully with ID: {}", id);
         return appointmentMapper.toResponseDto(appointment);
     }
@@ -123,28 +203,134 @@ public class AppointmentServiceImpl implements AppointmentService {
     public AppointmentResponseDto updateAppointmentStatus(Long id, String status) {
         logger.info("Updating appointment status for ID: {} to {}", id, status);
         
-        Appointment appointment = appointmentRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Appointment", id));
+        AppointmentStatus target = AppointmentStatus.from(status);
+        Set<AppointmentStatus> sources = target.predecessors();
+        if (sources.isEmpty() || appointmentRepository.transitionStatus(id, sources, target) == 0) {
+            AppointmentStatus current = appointmentRepository.findStatusById(id)
+                    .orElseThrow(() -> new NotFoundException("Appointment", id));
+            throw invalidTransition(current, target);
+        }
         
-        appointment.setStatus(status);
-        appointment = appointmentRepository.save(appointment);
+        Appointment appointment = appointmentRepository.findWithUserAndDoctorById(id)
+                .orElseThrow(() -> new NotFoundException("Appointment", id));
+        SlotKey slot = SlotKey.at(appointment);
+        if (target == AppointmentStatus.CANCELLED && slot != null) {
+            releaseSlot(slot);
+        }
         
         logger.info("Appointment status updated successfully for ID: {}", id);
         return appointmentMapper.toResponseDto(appointment);
     }
 
     @Override
+    @Retryable(retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${appointments.retry.max-attempts:3}",
+            backoff = @Backoff(delayExpression = "${appointments.retry.initial-delay-ms:20}",
+                    maxDelayExpression = "${appointments.retry.max-delay-ms:200}", multiplier = 2, random = true))
     public void deleteAppointment(Long id) {
         logger.info("Deleting appointment with ID: {}", id);
         
-        if (!appointmentRepository.existsById(id)) {
-            throw new NotFoundException("Appointment", id);
-        }
+        Appointment appointment = appointmentRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Appointment", id));
+        SlotKey slot = SlotKey.of(appointment);
         
-        appointmentRepository.deleteById(id);
+        appointmentRepository.delete(appointment);
+        if (slot != null) {
+            releaseSlot(slot);
+        }
         logger.info("Appointment deleted successfully with ID: {}", id);
     }
     
+    private void claimSlot(Appointment appointment, SlotKey previousSlot) {
+        SlotKey slot = SlotKey.of(appointment);
+        if (slot == null) {
+            return;
+        }
+        
+        Doctor doctor = appointment.getDoctor();
+        boolean timeChanged = previousSlot == null || !slot.time().equals(previousSlot.time());
+        if (timeChanged && slotSchedule.slotOf(slot.time()) < 0) {
+            throw new BadRequestException("Appointment time " + slot.time() + " is not a bookable slot");
+        }
+        if (Boolean.FALSE.equals(doctor.getIsAvailable())
+                || !AvailableDays.parse(doctor.getAvailableDays()).contains(slot.date().getDayOfWeek())) {
+            throw new BadRequestException("Doctor is not available on " + slot.date());
+        }
+        if (!bookedSlotIndex.claim(slot.doctorId(), slot.date(), slot.time())) {
+            throw slotTaken(slot);
+        }
+        specialtySlotCache.invalidateAfterCommit(slot.specialty(), slot.date());
+    }
+    
+    private void releaseSlot(SlotKey slot) {
+        bookedSlotIndex.releaseAfterCommit(slot.doctorId(), slot.date(), slot.time());
+        specialtySlotCache.invalidateAfterCommit(slot.specialty(), slot.date());
+    }
+    
+    private void moveSlot(Appointment appointment, SlotKey previousSlot) {
+        SlotKey slot = SlotKey.of(appointment);
+        if (Objects.equals(previousSlot, slot)) {
+            return;
+        }
+        
+        claimSlot(appointment, previousSlot);
+        if (previousSlot != null) {
+            releaseSlot(previousSlot);
+        }
+    }
+    
+    private Appointment saveBooking(Appointment appointment) {
+        try {
+            return appointmentRepository.saveAndFlush(appointment);
+        } catch (DataIntegrityViolationException e) {
+            if (ForeignKeyViolations.isMissingParent(e)) {
+                throw new NotFoundException("User", appointment.getUser().getId());
+            }
+            SlotKey slot = SlotKey.of(appointment);
+            String cause = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            if (slot == null || !cause.toLowerCase(Locale.ROOT).contains(SLOT_CONSTRAINT)) {
+                throw e;
+            }
+            bookedSlotIndex.markBooked(slot.doctorId(), slot.date(), slot.time());
+            throw slotTaken(slot);
+        }
+    }
+    
+    // Keyset order is (date desc nulls last, id desc). Dated rows are sought on their own so the
+    // (date, id) predicate stays index-friendly, and undated rows fill whatever room is left.
+    private static List<Appointment> findKeysetPage(String cursor, int size,
+                                                    Function<Pageable, List<Appointment>> firstDated,
+                                                    DatedSeek afterDated,
+                                                    BiFunction<Long, Pageable, List<Appointment>> afterUndated) {
+        Pageable limit = KeysetCursor.limit(size);
+        List<Appointment> dated;
+        if (KeysetCursor.isFirstPage(cursor)) {
+            dated = firstDated.apply(limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            LocalDate date = after.keyAsDate();
+            if (date == null) {
+                return afterUndated.apply(after.getId(), limit);
+            }
+            dated = afterDated.find(date, after.getId(), limit);
+        }
+        if (dated.size() > size) {
+            return dated;
+        }
+        List<Appointment> appointments = new ArrayList<>(dated);
+        appointments.addAll(afterUndated.apply(Long.MAX_VALUE, limit));
+        return appointments;
+    }
+
+    private static ConflictException invalidTransition(AppointmentStatus current, AppointmentStatus target) {
+        return new ConflictException("Cannot change appointment status from " + current + " to " + target);
+    }
+    
+    private static ConflictException slotTaken(SlotKey slot) {
+        return new ConflictException("Slot " + slot.date() + " " + slot.time()
+                + " is already booked for doctor ID: " + slot.doctorId());
+    }
+    
     private PaginationResponse<AppointmentResponseDto> buildPaginationResponse(Page<Appointment> appointmentPage) {
         List<AppointmentResponseDto> content = appointmentPage.getContent().stream()
                 .map(appointmentMapper::toResponseDto)
@@ -160,4 +346,24 @@ public class AppointmentServiceImpl implements AppointmentService {
                 .last(appointmentPage.isLast())
                 .build();
     }
+    
+    private record SlotKey(Long doctorId, String specialty, LocalDate date, LocalTime time) {
+        
+        private static SlotKey of(Appointment appointment) {
+            return appointment.getStatus() == AppointmentStatus.CANCELLED ? null : at(appointment);
+        }
+        
+        private static SlotKey at(Appointment appointment) {
+            if (appointment.getDoctor() == null || appointment.getDate() == null || appointment.getTime() == null) {
+                return null;
+            }
+            Doctor doctor = appointment.getDoctor();
+            return new SlotKey(doctor.getId(), doctor.getSpecialty(), appointment.getDate(), appointment.getTime());
+        }
+    }
+
+    @FunctionalInterface
+    private interface DatedSeek {
+        List<Appointment> find(LocalDate date, Long id, Pageable pageable);
+    }
 }
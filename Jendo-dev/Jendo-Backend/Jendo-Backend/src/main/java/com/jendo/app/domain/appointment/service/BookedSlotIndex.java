@@ -0,0 +1,161 @@
+package com.jendo.app.domain.appointment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.appointment.repository.BookedSlot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+@Component
+public class BookedSlotIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookedSlotIndex.class);
+
+    private final Cache<DoctorDay, BitSet> booked;
+    private final AppointmentRepository appointmentRepository;
+    private final SlotSchedule slotSchedule;
+
+    public BookedSlotIndex(@Value("${appointments.booked-slot-cache.max-size:50000}") long maxSize,
+                           @Value("${appointments.booked-slot-cache.ttl:5m}") Duration ttl,
+                           AppointmentRepository appointmentRepository,
+                           SlotSchedule slotSchedule,
+                           MeterRegistry meterRegistry) {
+        this.booked = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.appointmentRepository = appointmentRepository;
+        this.slotSchedule = slotSchedule;
+        CaffeineCacheMetrics.monitor(meterRegistry, booked, "bookedSlots");
+    }
+
+    public Map<LocalDate, BitSet> bookedSlots(Long doctorId, LocalDate from, LocalDate to) {
+        Map<LocalDate, BitSet> result = new TreeMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            BitSet slots = booked.getIfPresent(new DoctorDay(doctorId, date));
+            if (slots != null) {
+                result.put(date, snapshot(slots));
+            } else {
+                firstMissing = firstMissing == null ? date : firstMissing;
+                lastMissing = date;
+            }
+        }
+
+        if (firstMissing != null) {
+            Map<LocalDate, BitSet> loaded = load(doctorId, firstMissing, lastMissing);
+            loaded.forEach((date, slots) -> {
+                if (!result.containsKey(date)) {
+                    BitSet current = booked.asMap().putIfAbsent(new DoctorDay(doctorId, date), slots);
+                    result.put(date, snapshot(current != null ? current : slots));
+                }
+            });
+        }
+        return result;
+    }
+
+    public boolean claim(Long doctorId, LocalDate date, LocalTime time) {
+        int slot = slotSchedule.slotOf(time);
+        if (slot < 0) {
+            return true;
+        }
+        BitSet slots = booked.get(new DoctorDay(doctorId, date), key -> load(doctorId, date, date).get(date));
+        synchronized (slots) {
+            if (slots.get(slot)) {
+                return false;
+            }
+            slots.set(slot);
+        }
+
+        onCompletion(committed -> {
+            if (!committed) {
+                logger.debug("Booking rolled back, releasing slot {} {} for doctor ID: {}", date, time, doctorId);
+                clear(slots, slot);
+            }
+        });
+        return true;
+    }
+
+    public void markBooked(Long doctorId, LocalDate date, LocalTime time) {
+        int slot = slotSchedule.slotOf(time);
+        BitSet slots = booked.getIfPresent(new DoctorDay(doctorId, date));
+        if (slot >= 0 && slots != null) {
+            synchronized (slots) {
+                slots.set(slot);
+            }
+        }
+    }
+
+    public void releaseAfterCommit(Long doctorId, LocalDate date, LocalTime time) {
+        int slot = slotSchedule.slotOf(time);
+        if (slot < 0) {
+            return;
+        }
+        onCompletion(committed -> {
+            BitSet slots = booked.getIfPresent(new DoctorDay(doctorId, date));
+            if (committed && slots != null) {
+                clear(slots, slot);
+            }
+        });
+    }
+
+    private Map<LocalDate, BitSet> load(Long doctorId, LocalDate from, LocalDate to) {
+        Map<LocalDate, BitSet> slotsByDate = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            slotsByDate.put(date, new BitSet(slotSchedule.slotsPerDay()));
+        }
+        for (BookedSlot bookedSlot : appointmentRepository.findBookedSlots(doctorId, from, to)) {
+            int slot = bookedSlot.getTime() != null ? slotSchedule.slotOf(bookedSlot.getTime()) : -1;
+            if (slot >= 0) {
+                slotsByDate.get(bookedSlot.getDate()).set(slot);
+            }
+        }
+        return slotsByDate;
+    }
+
+    private void onCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static void clear(BitSet slots, int slot) {
+        synchronized (slots) {
+            slots.clear(slot);
+        }
+    }
+
+    private static BitSet snapshot(BitSet slots) {
+        synchronized (slots) {
+            return (BitSet) slots.clone();
+        }
+    }
+
+    private record DoctorDay(Long doctorId, LocalDate date) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.jendo.app.domain.appointment.service;
+
+import com.jendo.app.domain.appointment.dto.DayAvailabilityDto;
+import com.jendo.app.domain.appointment.dto.SlotOfferDto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SlotAvailabilityService {
+    
+    List<DayAvailabilityDto> getAvailability(Long doctorId, LocalDate from, LocalDate to);
+    
+    List<SlotOfferDto> findEarliestSlots(String specialty, LocalDate from, LocalDate to, int limit);
+}
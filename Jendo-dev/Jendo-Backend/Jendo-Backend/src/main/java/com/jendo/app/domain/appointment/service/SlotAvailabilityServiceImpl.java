@@ -0,0 +1,159 @@
+package com.jendo.app.domain.appointment.service;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.appointment.dto.DayAvailabilityDto;
+import com.jendo.app.domain.appointment.dto.SlotOfferDto;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.doctor.repository.DoctorRepository;
+import com.jendo.app.domain.doctor.repository.DoctorSlotRow;
+import com.jendo.app.domain.doctor.service.AvailableDays;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SlotAvailabilityServiceImpl implements SlotAvailabilityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotAvailabilityServiceImpl.class);
+
+    private static final int MAX_SLOT_RESULTS = 100;
+    private static final Comparator<SlotOfferDto> EARLIEST_FIRST = Comparator.comparing(SlotOfferDto::getTime)
+            .thenComparing(SlotOfferDto::getDoctorName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(SlotOfferDto::getDoctorId);
+
+    private final DoctorRepository doctorRepository;
+    private final BookedSlotIndex bookedSlotIndex;
+    private final SlotSchedule slotSchedule;
+    private final SpecialtySlotCache specialtySlotCache;
+
+    @Override
+    public List<DayAvailabilityDto> getAvailability(Long doctorId, LocalDate from, LocalDate to) {
+        logger.info("Fetching availability for doctor ID: {} from {} to {}", doctorId, from, to);
+        validateRange(from, to);
+
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new NotFoundException("Doctor", doctorId));
+
+        List<DayAvailabilityDto> availability = new ArrayList<>();
+        if (Boolean.FALSE.equals(doctor.getIsAvailable())) {
+            return availability;
+        }
+
+        Set<DayOfWeek> workingDays = AvailableDays.parse(doctor.getAvailableDays());
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<LocalDate, BitSet> day : bookedSlotIndex.bookedSlots(doctorId, from, to).entrySet()) {
+            LocalDate date = day.getKey();
+            if (!workingDays.contains(date.getDayOfWeek()) || date.isBefore(now.toLocalDate())) {
+                continue;
+            }
+
+            BitSet booked = day.getValue();
+            List<LocalTime> freeSlots = new ArrayList<>();
+            for (int slot = booked.nextClearBit(0); slot < slotSchedule.slotsPerDay(); slot = booked.nextClearBit(slot + 1)) {
+                if (date.atTime(slotSchedule.timeOf(slot)).isAfter(now)) {
+                    freeSlots.add(slotSchedule.timeOf(slot));
+                }
+            }
+            availability.add(DayAvailabilityDto.builder()
+                    .date(date)
+                    .freeSlots(freeSlots)
+                    .build());
+        }
+        return availability;
+    }
+
+    @Override
+    public List<SlotOfferDto> findEarliestSlots(String specialty, LocalDate from, LocalDate to, int limit) {
+        logger.info("Searching earliest {} slots for specialty: {} from {} to {}", limit, specialty, from, to);
+        validateRange(from, to);
+        if (limit < 1 || limit > MAX_SLOT_RESULTS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_SLOT_RESULTS);
+        }
+
+        String term = specialty.trim();
+        LocalDateTime now = LocalDateTime.now();
+        List<SlotOfferDto> earliest = new ArrayList<>(limit);
+        Map<LocalDate, List<SlotOfferDto>> offersByDate = specialtySlotCache.get(term, from, to,
+                (first, last) -> loadOffers(term, first, last));
+        for (List<SlotOfferDto> offers : offersByDate.values()) {
+            for (SlotOfferDto offer : offers) {
+                if (offer.getDate().atTime(offer.getTime()).isAfter(now)) {
+                    earliest.add(offer);
+                    if (earliest.size() == limit) {
+                        return earliest;
+                    }
+                }
+            }
+        }
+        return earliest;
+    }
+
+    private Map<LocalDate, List<SlotOfferDto>> loadOffers(String specialty, LocalDate from, LocalDate to) {
+        Map<Long, DoctorSlots> doctors = new LinkedHashMap<>();
+        for (DoctorSlotRow row : doctorRepository.findBookedSlotsBySpecialty(escapeLike(specialty), from, to)) {
+            DoctorSlots doctor = doctors.computeIfAbsent(row.getDoctorId(), id -> new DoctorSlots(
+                    id, row.getDoctorName(), AvailableDays.parse(row.getAvailableDays()), new HashMap<>()));
+            int slot = row.getTime() != null ? slotSchedule.slotOf(row.getTime()) : -1;
+            if (slot >= 0) {
+                doctor.booked().computeIfAbsent(row.getDate(), date -> new BitSet(slotSchedule.slotsPerDay())).set(slot);
+            }
+        }
+
+        Map<LocalDate, List<SlotOfferDto>> offersByDate = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<SlotOfferDto> offers = new ArrayList<>();
+            for (DoctorSlots doctor : doctors.values()) {
+                if (!doctor.workingDays().contains(date.getDayOfWeek())) {
+                    continue;
+                }
+                BitSet booked = doctor.booked().getOrDefault(date, new BitSet());
+                for (int slot = booked.nextClearBit(0); slot < slotSchedule.slotsPerDay(); slot = booked.nextClearBit(slot + 1)) {
+                    offers.add(SlotOfferDto.builder()
+                            .doctorId(doctor.id())
+                            .doctorName(doctor.name())
+                            .date(date)
+                            .time(slotSchedule.timeOf(slot))
+                            .build());
+                }
+            }
+            offers.sort(EARLIEST_FIRST);
+            offersByDate.put(date, offers);
+        }
+        return offersByDate;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= slotSchedule.maxRangeDays()) {
+            throw new BadRequestException("Availability range must not exceed " + slotSchedule.maxRangeDays() + " days");
+        }
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private record DoctorSlots(Long id, String name, Set<DayOfWeek> workingDays, Map<LocalDate, BitSet> booked) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.jendo.app.domain.appointment.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+@Component
+public class SlotSchedule {
+
+    private final LocalTime dayStart;
+    private final long slotSeconds;
+    private final int slotsPerDay;
+    private final int maxRangeDays;
+
+    public SlotSchedule(@Value("${appointments.slots.day-start:09:00}") String dayStart,
+                        @Value("${appointments.slots.day-end:17:00}") String dayEnd,
+                        @Value("${appointments.slots.duration:30m}") Duration slotDuration,
+                        @Value("${appointments.slots.max-range-days:31}") int maxRangeDays) {
+        this.dayStart = LocalTime.parse(dayStart);
+        this.slotSeconds = slotDuration.toSeconds();
+        this.slotsPerDay = (int) (Duration.between(this.dayStart, LocalTime.parse(dayEnd)).toSeconds() / slotSeconds);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public int slotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public int maxRangeDays() {
+        return maxRangeDays;
+    }
+
+    public int slotOf(LocalTime time) {
+        long offset = Duration.between(dayStart, time).toSeconds();
+        if (offset < 0 || offset % slotSeconds != 0 || time.getNano() != 0) {
+            return -1;
+        }
+        long slot = offset / slotSeconds;
+        return slot < slotsPerDay ? (int) slot : -1;
+    }
+
+    public LocalTime timeOf(int slot) {
+        return dayStart.plusSeconds(slot * slotSeconds);
+    }
+}
@@ -0,0 +1,105 @@
+package com.jendo.app.domain.appointment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jendo.app.domain.appointment.dto.SlotOfferDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+@Component
+public class SpecialtySlotCache {
+
+    private final Cache<SpecialtyDay, List<SlotOfferDto>> offers;
+    private long generation;
+
+    public SpecialtySlotCache(@Value("${appointments.specialty-slot-cache.max-size:10000}") long maxSize,
+                              @Value("${appointments.specialty-slot-cache.ttl:5m}") Duration ttl,
+                              MeterRegistry meterRegistry) {
+        this.offers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, offers, "specialtySlots");
+    }
+
+    public Map<LocalDate, List<SlotOfferDto>> get(String specialty, LocalDate from, LocalDate to,
+                                                  BiFunction<LocalDate, LocalDate, Map<LocalDate, List<SlotOfferDto>>> loader) {
+        String term = normalize(specialty);
+        Map<LocalDate, List<SlotOfferDto>> result = new TreeMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            List<SlotOfferDto> cached = offers.getIfPresent(new SpecialtyDay(term, date));
+            if (cached != null) {
+                result.put(date, cached);
+            } else {
+                firstMissing = firstMissing == null ? date : firstMissing;
+                lastMissing = date;
+            }
+        }
+        if (firstMissing == null) {
+            return result;
+        }
+
+        long loadedAt;
+        synchronized (this) {
+            loadedAt = generation;
+        }
+        Map<LocalDate, List<SlotOfferDto>> loaded = loader.apply(firstMissing, lastMissing);
+        synchronized (this) {
+            if (generation == loadedAt) {
+                loaded.forEach((date, dayOffers) -> offers.put(new SpecialtyDay(term, date), List.copyOf(dayOffers)));
+            }
+        }
+        loaded.forEach(result::putIfAbsent);
+        return result;
+    }
+
+    public void invalidateAfterCommit(String doctorSpecialty, LocalDate date) {
+        String specialty = normalize(doctorSpecialty);
+        afterCommit(() -> offers.asMap().keySet()
+                .removeIf(key -> key.date().equals(date) && specialty.contains(key.term())));
+    }
+
+    public void invalidateAllAfterCommit() {
+        afterCommit(offers::invalidateAll);
+    }
+
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(invalidation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(invalidation);
+            }
+        });
+    }
+
+    private synchronized void invalidate(Runnable invalidation) {
+        generation++;
+        invalidation.run();
+    }
+
+    private static String normalize(String specialty) {
+        return specialty == null ? "" : specialty.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record SpecialtyDay(String term, LocalDate date) {
+    }
+}
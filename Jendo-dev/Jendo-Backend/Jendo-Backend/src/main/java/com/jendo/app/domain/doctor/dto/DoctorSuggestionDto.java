@@ -0,0 +1,30 @@
+package com.jendo.app.domain.doctor.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Doctor autocomplete suggestion")
+public class DoctorSuggestionDto {
+
+    @Schema(description = "Doctor's unique identifier", example = "1")
+    private Long id;
+
+    @Schema(description = "Doctor's full name", example = "Dr. Jane Smith")
+    private String name;
+
+    @Schema(description = "Doctor's specialty", example = "Cardiology")
+    private String specialty;
+
+    @Schema(description = "Hospital name", example = "City General Hospital")
+    private String hospital;
+
+    @Schema(description = "Availability status", example = "true")
+    private Boolean isAvailable;
+}
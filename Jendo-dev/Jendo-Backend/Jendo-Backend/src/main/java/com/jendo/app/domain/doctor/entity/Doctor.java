@@ -19,7 +19,8 @@ import java.util.List;
 public class Doctor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "doctors_seq")
+    @SequenceGenerator(name = "doctors_seq", sequenceName = "doctors_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 200)
@@ -4,8 +4,11 @@ import com.jendo.app.domain.doctor.entity.Doctor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,4 +22,19 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
     Optional<Doctor> findByEmail(String email);
     
     Page<Doctor> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    
+    @Query("select d from Doctor d order by d.name asc, d.id asc")
+    List<Doctor> findKeysetFirstPage(Pageable pageable);
+    
+    @Query("select d from Doctor d where d.name >= :name and (d.name > :name or d.id > :id) "
+            + "order by d.name asc, d.id asc")
+    List<Doctor> findKeysetPageAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+    
+    @Query("select d.id as doctorId, d.name as doctorName, d.availableDays as availableDays, a.date as date, a.time as time "
+            + "from Doctor d left join d.appointments a on a.date between :from and :to "
+            + "and a.status <> com.jendo.app.domain.appointment.entity.AppointmentStatus.CANCELLED "
+            + "where lower(d.specialty) like lower(concat('%', :specialty, '%')) escape '\\' "
+            + "and (d.isAvailable is null or d.isAvailable = true)")
+    List<DoctorSlotRow> findBookedSlotsBySpecialty(@Param("specialty") String specialty, @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
 }
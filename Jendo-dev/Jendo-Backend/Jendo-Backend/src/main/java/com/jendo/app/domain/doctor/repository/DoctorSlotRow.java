@@ -0,0 +1,17 @@
+package com.jendo.app.domain.doctor.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface DoctorSlotRow {
+
+    Long getDoctorId();
+
+    String getDoctorName();
+
+    String getAvailableDays();
+
+    LocalDate getDate();
+
+    LocalTime getTime();
+}
@@ -0,0 +1,105 @@
+package com.jendo.app.domain.doctor.service;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.DayOfWeek;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public final class AvailableDays {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailableDays.class);
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final Map<String, Set<DayOfWeek>> NAMES = new HashMap<>();
+
+    static {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            NAMES.put(day.getDisplayName(TextStyle.FULL, Locale.ENGLISH).toLowerCase(Locale.ROOT), EnumSet.of(day));
+            NAMES.put(day.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toLowerCase(Locale.ROOT), EnumSet.of(day));
+        }
+        NAMES.put("weekdays", EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        NAMES.put("weekends", EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY));
+        NAMES.put("daily", EnumSet.allOf(DayOfWeek.class));
+        NAMES.put("everyday", EnumSet.allOf(DayOfWeek.class));
+    }
+
+    private AvailableDays() {
+    }
+
+    public static Set<DayOfWeek> parse(String availableDays) {
+        List<String> unknown = new ArrayList<>();
+        Set<DayOfWeek> days = parse(availableDays, unknown);
+        if (!unknown.isEmpty()) {
+            logger.warn("Ignoring unrecognised available days {} in '{}'", unknown, availableDays);
+        }
+        return days;
+    }
+
+    public static void validate(String availableDays) {
+        List<String> unknown = new ArrayList<>();
+        parse(availableDays, unknown);
+        if (!unknown.isEmpty()) {
+            throw new BadRequestException("Unrecognised available days: " + String.join(", ", unknown));
+        }
+    }
+
+    private static Set<DayOfWeek> parse(String availableDays, List<String> unknown) {
+        if (availableDays == null || availableDays.isBlank()) {
+            return EnumSet.allOf(DayOfWeek.class);
+        }
+
+        EnumSet<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String token : availableDays.toLowerCase(Locale.ROOT).split("[,;/&]|\\band\\b")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            String[] range = token.trim().split("\\s*-\\s*|\\s+to\\s+");
+            if (range.length == 2 && isSingleDay(range[0]) && isSingleDay(range[1])) {
+                DayOfWeek day = dayOf(range[0]);
+                DayOfWeek end = dayOf(range[1]);
+                days.add(day);
+                while (day != end) {
+                    day = day.plus(1);
+                    days.add(day);
+                }
+            } else if (range.length == 1 && lookup(range[0]) != null) {
+                days.addAll(lookup(range[0]));
+            } else {
+                unknown.add(token.trim());
+            }
+        }
+        return days.isEmpty() ? EnumSet.allOf(DayOfWeek.class) : days;
+    }
+
+    // Accepts the names above plus any prefix of at least three letters, so "Tues" and "Thurs." resolve.
+    private static Set<DayOfWeek> lookup(String name) {
+        String key = name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
+        Set<DayOfWeek> days = NAMES.get(key);
+        if (days != null || key.length() < MIN_PREFIX_LENGTH) {
+            return days;
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.getDisplayName(TextStyle.FULL, Locale.ENGLISH).toLowerCase(Locale.ROOT).startsWith(key)) {
+                return EnumSet.of(day);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSingleDay(String name) {
+        Set<DayOfWeek> days = lookup(name);
+        return days != null && days.size() == 1;
+    }
+
+    private static DayOfWeek dayOf(String name) {
+        return lookup(name).iterator().next();
+    }
+}
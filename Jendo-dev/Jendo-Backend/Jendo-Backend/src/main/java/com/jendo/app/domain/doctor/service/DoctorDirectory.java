@@ -0,0 +1,79 @@
+package com.jendo.app.domain.doctor.service;
+
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.doctor.repository.DoctorRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class DoctorDirectory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DoctorDirectory.class);
+
+    private final DoctorRepository doctorRepository;
+    private volatile DoctorDirectoryIndex index;
+
+    public List<DoctorSuggestionDto> autocomplete(String query, int limit) {
+        return index().autocomplete(query, limit).stream()
+                .map(entry -> DoctorSuggestionDto.builder()
+                        .id(entry.id())
+                        .name(entry.name())
+                        .specialty(entry.specialty())
+                        .hospital(entry.hospital())
+                        .isAvailable(entry.isAvailable())
+                        .build())
+                .toList();
+    }
+
+    public void putAfterCommit(Doctor doctor) {
+        DoctorDirectoryIndex.Entry entry = DoctorDirectoryIndex.Entry.of(doctor);
+        afterCommit(current -> current.with(entry));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(current -> current.without(id));
+    }
+
+    private DoctorDirectoryIndex index() {
+        DoctorDirectoryIndex current = index;
+        return current != null ? current : load();
+    }
+
+    private synchronized DoctorDirectoryIndex load() {
+        if (index == null) {
+            index = DoctorDirectoryIndex.of(doctorRepository.findAll().stream()
+                    .map(DoctorDirectoryIndex.Entry::of)
+                    .toList());
+            logger.info("Loaded {} doctors into the directory", index.size());
+        }
+        return index;
+    }
+
+    private void afterCommit(UnaryOperator<DoctorDirectoryIndex> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(UnaryOperator<DoctorDirectoryIndex> change) {
+        if (index != null) {
+            index = change.apply(index);
+        }
+    }
+}
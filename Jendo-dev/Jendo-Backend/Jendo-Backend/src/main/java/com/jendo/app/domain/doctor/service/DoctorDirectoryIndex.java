@@ -0,0 +1,274 @@
+package com.jendo.app.domain.doctor.service;
+
+import com.jendo.app.domain.doctor.entity.Doctor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+final class DoctorDirectoryIndex {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double NAME_PREFIX = 3;
+    private static final double DETAIL_PREFIX = 2;
+    private static final double FUZZY_THRESHOLD = 0.4;
+
+    private final Map<Long, Entry> entries;
+    private final TokenTrie names;
+    private final TokenTrie details;
+    private final TokenTrie trigrams;
+
+    private DoctorDirectoryIndex(Map<Long, Entry> entries, TokenTrie names, TokenTrie details, TokenTrie trigrams) {
+        this.entries = entries;
+        this.names = names;
+        this.details = details;
+        this.trigrams = trigrams;
+    }
+
+    static DoctorDirectoryIndex of(Collection<Entry> entries) {
+        Map<Long, Entry> byId = new HashMap<>();
+        entries.forEach(entry -> byId.put(entry.id(), entry));
+        List<Entry> sorted = byId.values().stream().sorted(Comparator.comparingLong(Entry::id)).toList();
+        return new DoctorDirectoryIndex(byId, postings(sorted, Entry::nameTokens), postings(sorted, Entry::detailTokens),
+                postings(sorted, Entry::trigrams));
+    }
+
+    private static TokenTrie postings(List<Entry> sorted, Function<Entry, Set<String>> tokens) {
+        Map<String, List<Long>> ids = new HashMap<>();
+        for (Entry entry : sorted) {
+            tokens.apply(entry).forEach(token -> ids.computeIfAbsent(token, key -> new ArrayList<>()).add(entry.id()));
+        }
+        SortedMap<String, long[]> postings = new TreeMap<>();
+        ids.forEach((token, list) -> postings.put(token, list.stream().mapToLong(Long::longValue).toArray()));
+        return TokenTrie.of(postings);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    DoctorDirectoryIndex with(Entry entry) {
+        Map<Long, Entry> updated = new HashMap<>(entries);
+        Entry previous = updated.put(entry.id(), entry);
+        return reindexed(updated, previous, entry);
+    }
+
+    DoctorDirectoryIndex without(long id) {
+        if (!entries.containsKey(id)) {
+            return this;
+        }
+        Map<Long, Entry> updated = new HashMap<>(entries);
+        Entry previous = updated.remove(id);
+        return reindexed(updated, previous, null);
+    }
+
+    private DoctorDirectoryIndex reindexed(Map<Long, Entry> updated, Entry previous, Entry next) {
+        long id = next != null ? next.id() : previous.id();
+        return new DoctorDirectoryIndex(updated,
+                reindexed(names, id, previous == null ? Set.of() : previous.nameTokens(),
+                        next == null ? Set.of() : next.nameTokens()),
+                reindexed(details, id, previous == null ? Set.of() : previous.detailTokens(),
+                        next == null ? Set.of() : next.detailTokens()),
+                reindexed(trigrams, id, previous == null ? Set.of() : previous.trigrams(),
+                        next == null ? Set.of() : next.trigrams()));
+    }
+
+    private static TokenTrie reindexed(TokenTrie trie, long id, Set<String> previous, Set<String> next) {
+        for (String token : previous) {
+            if (!next.contains(token)) {
+                trie = trie.remove(token, id);
+            }
+        }
+        for (String token : next) {
+            if (!previous.contains(token)) {
+                trie = trie.add(token, id);
+            }
+        }
+        return trie;
+    }
+
+    List<Entry> autocomplete(String query, int limit) {
+        Set<String> terms = tokens(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Candidates candidates = null;
+        for (String term : terms) {
+            Candidates hits = Candidates.union(names.withPrefix(term), NAME_PREFIX, details.withPrefix(term),
+                    DETAIL_PREFIX);
+            candidates = candidates == null ? hits : candidates.intersect(hits);
+        }
+
+        PriorityQueue<Match> best = new PriorityQueue<>(limit, (a, b) -> b.compareTo(a));
+        for (int i = 0; i < candidates.size; i++) {
+            offer(best, limit, candidates.ids[i], candidates.scores[i]);
+        }
+        if (candidates.size < limit) {
+            addFuzzyMatches(terms, candidates, best, limit);
+        }
+
+        List<Match> ranked = new ArrayList<>(best);
+        ranked.sort(null);
+        return ranked.stream().map(Match::entry).toList();
+    }
+
+    private void addFuzzyMatches(Set<String> terms, Candidates candidates, PriorityQueue<Match> best, int limit) {
+        Set<String> queryTrigrams = new HashSet<>();
+        terms.forEach(term -> addTrigrams(term, queryTrigrams));
+        List<long[]> postings = new ArrayList<>(queryTrigrams.size());
+        int total = 0;
+        for (String trigram : queryTrigrams) {
+            long[] ids = trigrams.get(trigram);
+            postings.add(ids);
+            total += ids.length;
+        }
+
+        int mask = Integer.highestOneBit(Math.max(Math.min(total, entries.size()), 1) * 2) * 2 - 1;
+        long[] ids = new long[mask + 1];
+        int[] shared = new int[mask + 1];
+        for (long[] posting : postings) {
+            for (long id : posting) {
+                int slot = Long.hashCode(id * 0x9E3779B97F4A7C15L) & mask;
+                while (shared[slot] != 0 && ids[slot] != id) {
+                    slot = (slot + 1) & mask;
+                }
+                ids[slot] = id;
+                shared[slot]++;
+            }
+        }
+
+        int required = (int) Math.ceil(FUZZY_THRESHOLD * queryTrigrams.size());
+        for (int slot = 0; slot <= mask; slot++) {
+            if (shared[slot] >= required && Arrays.binarySearch(candidates.ids, 0, candidates.size, ids[slot]) < 0) {
+                offer(best, limit, ids[slot], (double) shared[slot] / queryTrigrams.size());
+            }
+        }
+    }
+
+    private void offer(PriorityQueue<Match> best, int limit, long id, double score) {
+        if (best.size() == limit && score < best.peek().score()) {
+            return;
+        }
+        Match match = new Match(entries.get(id), score);
+        if (best.size() == limit) {
+            if (match.compareTo(best.peek()) >= 0) {
+                return;
+            }
+            best.poll();
+        }
+        best.add(match);
+    }
+
+    static Set<String> tokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text != null) {
+            for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty()) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void addTrigrams(String token, Set<String> into) {
+        String padded = "  " + token + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            into.add(padded.substring(i, i + 3));
+        }
+    }
+
+    record Entry(long id, String name, String sortKey, String specialty, String hospital, Boolean isAvailable,
+                 Set<String> nameTokens, Set<String> detailTokens, Set<String> trigrams) {
+
+        static Entry of(Doctor doctor) {
+            Set<String> nameTokens = tokens(doctor.getName());
+            Set<String> detailTokens = tokens(doctor.getSpecialty());
+            detailTokens.addAll(tokens(doctor.getHospital()));
+            Set<String> trigrams = new HashSet<>();
+            nameTokens.forEach(token -> addTrigrams(token, trigrams));
+            detailTokens.forEach(token -> addTrigrams(token, trigrams));
+            return new Entry(doctor.getId(), doctor.getName(), doctor.getName().toLowerCase(Locale.ROOT),
+                    doctor.getSpecialty(), doctor.getHospital(), doctor.getIsAvailable(), Set.copyOf(nameTokens),
+                    Set.copyOf(detailTokens), Set.copyOf(trigrams));
+        }
+    }
+
+    private record Match(Entry entry, double score) implements Comparable<Match> {
+
+        @Override
+        public int compareTo(Match other) {
+            int byScore = Double.compare(other.score, score);
+            if (byScore != 0) {
+                return byScore;
+            }
+            int byName = entry.sortKey().compareTo(other.entry.sortKey());
+            return byName != 0 ? byName : Long.compare(entry.id(), other.entry.id());
+        }
+    }
+
+    private static final class Candidates {
+
+        private final long[] ids;
+        private final double[] scores;
+        private int size;
+
+        private Candidates(int capacity) {
+            this.ids = new long[capacity];
+            this.scores = new double[capacity];
+        }
+
+        private void add(long id, double score) {
+            ids[size] = id;
+            scores[size] = score;
+            size++;
+        }
+
+        static Candidates union(long[] preferred, double preferredScore, long[] other, double otherScore) {
+            Candidates union = new Candidates(preferred.length + other.length);
+            int i = 0;
+            int j = 0;
+            while (i < preferred.length || j < other.length) {
+                if (j == other.length || (i < preferred.length && preferred[i] <= other[j])) {
+                    if (j < other.length && preferred[i] == other[j]) {
+                        j++;
+                    }
+                    union.add(preferred[i++], preferredScore);
+                } else {
+                    union.add(other[j++], otherScore);
+                }
+            }
+            return union;
+        }
+
+        Candidates intersect(Candidates other) {
+            Candidates both = new Candidates(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    both.add(ids[i], scores[i++] + other.scores[j++]);
+                }
+            }
+            return both;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jendo.app.domain.doctor.service;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.doctor.dto.DoctorRequestDto;
 import com.jendo.app.domain.doctor.dto.DoctorResponseDto;
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
 
 import java.util.List;
 
@@ -14,10 +15,14 @@ public interface DoctorService {
     
     PaginationResponse<DoctorResponseDto> getAllDoctors(int page, int size);
     
+    PaginationResponse<DoctorResponseDto> getAllDoctors(String cursor, int size);
+    
     PaginationResponse<DoctorResponseDto> getDoctorsBySpecialty(String specialty, int page, int size);
     
     List<DoctorResponseDto> getAvailableDoctors();
     
+    List<DoctorSuggestionDto> autocompleteDoctors(String query, int limit);
+    
     DoctorResponseDto updateDoctor(Long id, DoctorRequestDto request);
     
     void deleteDoctor(Long id);
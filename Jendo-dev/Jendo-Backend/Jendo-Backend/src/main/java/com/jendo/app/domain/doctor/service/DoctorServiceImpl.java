@@ -1,9 +1,13 @@
 package com.jendo.app.domain.doctor.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.BadRequestException;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
+import com.jendo.app.domain.appointment.service.SpecialtySlotCache;
 import com.jendo.app.domain.doctor.dto.DoctorRequestDto;
 import com.jendo.app.domain.doctor.dto.DoctorResponseDto;
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
 import com.jendo.app.domain.doctor.entity.Doctor;
 import com.jendo.app.domain.doctor.mapper.DoctorMapper;
 import com.jendo.app.domain.doctor.repository.DoctorRepository;
@@ -15,6 +19,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -26,16 +31,22 @@ import java.util.stream.Collectors;
 public class DoctorServiceImpl implements DoctorService {
 
     private static final Logger logger = LoggerFactory.getLogger(DoctorServiceImpl.class);
+    private static final int MAX_SUGGESTIONS = 50;
     
     private final DoctorRepository doctorRepository;
     private final DoctorMapper doctorMapper;
+    private final SpecialtySlotCache specialtySlotCache;
+    private final DoctorDirectory doctorDirectory;
 
     @Override
     public DoctorResponseDto createDoctor(DoctorRequestDto request) {
         logger.info("Creating new doctor: {}", request.getName());
+        AvailableDays.validate(request.getAvailableDays());
         
         Doctor doctor = doctorMapper.toEntity(request);
         doctor = doctorRepository.save(doctor);
+        specialtySlotCache.invalidateAllAfterCommit();
+        doctorDirectory.putAfterCommit(doctor);
         
         logger.info("Doctor created successfully with ID: {}", doctor.getId());
         return doctorMapper.toResponseDto(doctor);
@@ -59,6 +70,24 @@ public class DoctorServiceImpl implements DoctorService {
         return buildPaginationResponse(doctorPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<DoctorResponseDto> getAllDoctors(String cursor, int size) {
+        logger.info("Fetching all doctors - cursor: {}, size: {}", cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<Doctor> doctors;
+        if (first) {
+            doctors = doctorRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            doctors = doctorRepository.findKeysetPageAfter(after.getKey(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(doctors, size, first, doctorMapper::toResponseDto,
+                doctor -> KeysetCursor.encode(doctor.getName(), doctor.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<DoctorResponseDto> getDoctorsBySpecialty(String specialty, int page, int size) {
@@ -76,6 +105,15 @@ public class DoctorServiceImpl implements DoctorService {
         return doctors.stream().map(doctorMapper::toResponseDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DoctorSuggestionDto> autocompleteDoctors(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return doctorDirectory.autocomplete(query, limit);
+    }
+
     @Override
     public DoctorResponseDto updateDoctor(Long id, DoctorRequestDto request) {
         logger.info("Updating doctor with ID: {}", id);
@@ -92,9 +130,14 @@ public class DoctorServiceImpl implements DoctorService {
         if (request.getImageUrl() != null) doctor.setImageUrl(request.getImageUrl());
         if (request.getAddress() != null) doctor.setAddress(request.getAddress());
         if (request.getIsAvailable() != null) doctor.setIsAvailable(request.getIsAvailable());
-        if (request.getAvailableDays() != null) doctor.setAvailableDays(request.getAvailableDays());
+        if (request.getAvailableDays() != null) {
+            AvailableDays.validate(request.getAvailableDays());
+            doctor.setAvailableDays(request.getAvailableDays());
+        }
         
         doctor = doctorRepository.save(doctor);
+        specialtySlotCache.invalidateAllAfterCommit();
+        doctorDirectory.putAfterCommit(doctor);
         logger.info("Doctor updated successfully with ID: {}", id);
         return doctorMapper.toResponseDto(doctor);
     }
@@ -108,6 +151,8 @@ public class DoctorServiceImpl implements DoctorService {
         }
         
         doctorRepository.deleteById(id);
+        specialtySlotCache.invalidateAllAfterCommit();
+        doctorDirectory.removeAfterCommit(id);
         logger.info("Doctor deleted successfully with ID: {}", id);
     }
     
@@ -0,0 +1,189 @@
+package com.jendo.app.domain.doctor.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+final class TokenTrie {
+
+    private static final long[] NO_IDS = new long[0];
+
+    static final TokenTrie EMPTY = new TokenTrie(Node.LEAF);
+
+    private final Node root;
+
+    private TokenTrie(Node root) {
+        this.root = root;
+    }
+
+    static TokenTrie of(SortedMap<String, long[]> postings) {
+        List<Map.Entry<String, long[]>> sorted = new ArrayList<>(postings.entrySet());
+        return sorted.isEmpty() ? EMPTY : new TokenTrie(Node.build(sorted, 0, sorted.size(), 0));
+    }
+
+    TokenTrie add(String token, long id) {
+        return new TokenTrie(root.add(token, 0, id));
+    }
+
+    TokenTrie remove(String token, long id) {
+        Node updated = root.remove(token, 0, id);
+        return new TokenTrie(updated == null ? Node.LEAF : updated);
+    }
+
+    long[] get(String token) {
+        Node node = root.find(token);
+        return node == null ? NO_IDS : node.ids;
+    }
+
+    long[] withPrefix(String prefix) {
+        Node node = root.find(prefix);
+        if (node == null) {
+            return NO_IDS;
+        }
+        long[] ids = new long[node.size];
+        node.copyInto(ids, 0);
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct == ids.length ? ids : Arrays.copyOf(ids, distinct);
+    }
+
+    private record Node(char[] labels, Node[] children, long[] ids, int size) {
+
+        static final Node LEAF = new Node(new char[0], new Node[0], NO_IDS, 0);
+
+        static Node of(char[] labels, Node[] children, long[] ids) {
+            int size = ids.length;
+            for (Node child : children) {
+                size += child.size;
+            }
+            return new Node(labels, children, ids, size);
+        }
+
+        static Node build(List<Map.Entry<String, long[]>> sorted, int from, int to, int depth) {
+            long[] ids = NO_IDS;
+            if (sorted.get(from).getKey().length() == depth) {
+                ids = sorted.get(from).getValue();
+                from++;
+            }
+            List<Character> labels = new ArrayList<>();
+            List<Node> children = new ArrayList<>();
+            while (from < to) {
+                char label = sorted.get(from).getKey().charAt(depth);
+                int end = from;
+                while (end < to && sorted.get(end).getKey().charAt(depth) == label) {
+                    end++;
+                }
+                labels.add(label);
+                children.add(build(sorted, from, end, depth + 1));
+                from = end;
+            }
+            char[] labelArray = new char[labels.size()];
+            for (int i = 0; i < labelArray.length; i++) {
+                labelArray[i] = labels.get(i);
+            }
+            return of(labelArray, children.toArray(new Node[0]), ids);
+        }
+
+        Node find(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                int slot = Arrays.binarySearch(node.labels, key.charAt(i));
+                node = slot < 0 ? null : node.children[slot];
+            }
+            return node;
+        }
+
+        int copyInto(long[] into, int offset) {
+            System.arraycopy(ids, 0, into, offset, ids.length);
+            offset += ids.length;
+            for (Node child : children) {
+                offset = child.copyInto(into, offset);
+            }
+            return offset;
+        }
+
+        Node add(String key, int depth, long id) {
+            if (depth == key.length()) {
+                int at = Arrays.binarySearch(ids, id);
+                if (at >= 0) {
+                    return this;
+                }
+                int insert = -at - 1;
+                long[] updated = new long[ids.length + 1];
+                System.arraycopy(ids, 0, updated, 0, insert);
+                updated[insert] = id;
+                System.arraycopy(ids, insert, updated, insert + 1, ids.length - insert);
+                return of(labels, children, updated);
+            }
+
+            char label = key.charAt(depth);
+            int slot = Arrays.binarySearch(labels, label);
+            if (slot >= 0) {
+                Node child = children[slot].add(key, depth + 1, id);
+                if (child == children[slot]) {
+                    return this;
+                }
+                Node[] updated = children.clone();
+                updated[slot] = child;
+                return of(labels, updated, ids);
+            }
+
+            int insert = -slot - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            newLabels[insert] = label;
+            newChildren[insert] = LEAF.add(key, depth + 1, id);
+            System.arraycopy(labels, insert, newLabels, insert + 1, labels.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            return of(newLabels, newChildren, ids);
+        }
+
+        Node remove(String key, int depth, long id) {
+            if (depth == key.length()) {
+                int at = Arrays.binarySearch(ids, id);
+                if (at < 0) {
+                    return this;
+                }
+                long[] updated = new long[ids.length - 1];
+                System.arraycopy(ids, 0, updated, 0, at);
+                System.arraycopy(ids, at + 1, updated, at, ids.length - at - 1);
+                return prune(of(labels, children, updated));
+            }
+
+            int slot = Arrays.binarySearch(labels, key.charAt(depth));
+            if (slot < 0) {
+                return this;
+            }
+            Node child = children[slot].remove(key, depth + 1, id);
+            if (child == children[slot]) {
+                return this;
+            }
+            if (child != null) {
+                Node[] updated = children.clone();
+                updated[slot] = child;
+                return of(labels, updated, ids);
+            }
+
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, slot);
+            System.arraycopy(children, 0, newChildren, 0, slot);
+            System.arraycopy(labels, slot + 1, newLabels, slot, labels.length - slot - 1);
+            System.arraycopy(children, slot + 1, newChildren, slot, children.length - slot - 1);
+            return prune(of(newLabels, newChildren, ids));
+        }
+
+        private static Node prune(Node node) {
+            return node.size == 0 ? null : node;
+        }
+    }
+}
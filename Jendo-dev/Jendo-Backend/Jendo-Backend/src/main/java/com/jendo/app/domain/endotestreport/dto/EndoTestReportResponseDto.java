@@ -0,0 +1,35 @@
+package com.jendo.app.domain.endotestreport.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Endo test report response data")
+public class EndoTestReportResponseDto {
+
+    @Schema(description = "Report unique identifier", example = "1")
+    private Long id;
+
+    @Schema(description = "User ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "Jendo test ID", example = "1")
+    private Long jendoTestId;
+
+    @Schema(description = "Report file URL", example = "https://storage.example.com/reports/1.pdf")
+    private String fileUrl;
+
+    @Schema(description = "Report file type", example = "pdf")
+    private String fileType;
+
+    @Schema(description = "Creation timestamp")
+    private LocalDateTime createdAt;
+}
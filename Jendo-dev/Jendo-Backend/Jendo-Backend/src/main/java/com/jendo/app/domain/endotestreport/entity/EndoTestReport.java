@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class EndoTestReport {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "endo_test_reports_seq")
+    @SequenceGenerator(name = "endo_test_reports_seq", sequenceName = "endo_test_reports_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "file_url")
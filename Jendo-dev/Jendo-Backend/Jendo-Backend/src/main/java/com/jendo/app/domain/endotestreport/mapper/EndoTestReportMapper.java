@@ -0,0 +1,20 @@
+package com.jendo.app.domain.endotestreport.mapper;
+
+import com.jendo.app.domain.endotestreport.dto.EndoTestReportResponseDto;
+import com.jendo.app.domain.endotestreport.entity.EndoTestReport;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EndoTestReportMapper {
+
+    public EndoTestReportResponseDto toResponseDto(EndoTestReport entity) {
+        return EndoTestReportResponseDto.builder()
+                .id(entity.getId())
+                .userId(entity.getUser().getId())
+                .jendoTestId(entity.getJendoTest() != null ? entity.getJendoTest().getId() : null)
+                .fileUrl(entity.getFileUrl())
+                .fileType(entity.getFileType())
+                .createdAt(entity.getCreatedAt())
+                .build();
+    }
+}
@@ -1,12 +1,18 @@
 package com.jendo.app.domain.endotestreport.repository;
 
 import com.jendo.app.domain.endotestreport.entity.EndoTestReport;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EndoTestReportRepository extends JpaRepository<EndoTestReport, Long> {
@@ -14,4 +20,11 @@ public interface EndoTestReportRepository extends JpaRepository<EndoTestReport,
     Page<EndoTestReport> findByUserId(Long userId, Pageable pageable);
     
     List<EndoTestReport> findByJendoTestId(Long jendoTestId);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r from EndoTestReport r where r.user.id = :userId order by r.createdAt, r.id")
+    Stream<EndoTestReport> streamByUserId(@Param("userId") Long userId);
 }
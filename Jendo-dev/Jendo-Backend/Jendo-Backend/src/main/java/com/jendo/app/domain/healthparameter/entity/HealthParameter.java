@@ -10,7 +10,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "health_parameters")
+@Table(name = "health_parameters", indexes = {
+        @Index(name = "idx_health_parameters_user_id_created_at", columnList = "user_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,7 +22,8 @@ import java.time.LocalDateTime;
 public class HealthParameter {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "health_parameters_seq")
+    @SequenceGenerator(name = "health_parameters_seq", sequenceName = "health_parameters_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "blood_type", length = 10)
@@ -1,12 +1,20 @@
 package com.jendo.app.domain.healthparameter.repository;
 
 import com.jendo.app.domain.healthparameter.entity.HealthParameter;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface HealthParameterRepository extends JpaRepository<HealthParameter, Long> {
@@ -14,4 +22,19 @@ public interface HealthParameterRepository extends JpaRepository<HealthParameter
     Page<HealthParameter> findByUserId(Long userId, Pageable pageable);
     
     Optional<HealthParameter> findTopByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    @Query("select h from HealthParameter h where h.user.id = :userId order by h.createdAt desc, h.id desc")
+    List<HealthParameter> findKeysetFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("select h from HealthParameter h where h.user.id = :userId and h.createdAt <= :createdAt and (h.createdAt < :createdAt or h.id < :id) "
+            + "order by h.createdAt desc, h.id desc")
+    List<HealthParameter> findKeysetPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id, Pageable pageable);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select h from HealthParameter h where h.user.id = :userId order by h.createdAt, h.id")
+    Stream<HealthParameter> streamByUserId(@Param("userId") Long userId);
 }
@@ -12,6 +12,8 @@ public interface HealthParameterService {
     
     PaginationResponse<HealthParameterResponseDto> getHealthParametersByUserId(Long userId, int page, int size);
     
+    PaginationResponse<HealthParameterResponseDto> getHealthParametersByUserId(Long userId, String cursor, int size);
+    
     HealthParameterResponseDto getLatestHealthParameterByUserId(Long userId);
     
     HealthParameterResponseDto updateHealthParameter(Long id, HealthParameterRequestDto request);
@@ -1,7 +1,9 @@
 package com.jendo.app.domain.healthparameter.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.ForeignKeyViolations;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.healthparameter.dto.HealthParameterRequestDto;
 import com.jendo.app.domain.healthparameter.dto.HealthParameterResponseDto;
 import com.jendo.app.domain.healthparameter.entity.HealthParameter;
@@ -12,6 +14,7 @@ import com.jendo.app.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,11 +40,17 @@ public class HealthParameterServiceImpl implements HealthParameterService {
     public HealthParameterResponseDto createHealthParameter(HealthParameterRequestDto request) {
         logger.info("Creating health parameter for user ID: {}", request.getUserId());
         
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new NotFoundException("User", request.getUserId()));
+        User user = userRepository.getReferenceById(request.getUserId());
         
         HealthParameter healthParameter = healthParameterMapper.toEntity(request, user);
-        healthParameter = healthParameterRepository.save(healthParameter);
+        try {
+            healthParameter = healthParameterRepository.saveAndFlush(healthParameter);
+        } catch (DataIntegrityViolationException e) {
+            if (!ForeignKeyViolations.isMissingParent(e)) {
+                throw e;
+            }
+            throw new NotFoundException("User", request.getUserId());
+        }
         
         logger.info("Health parameter created with ID: {}", healthParameter.getId());
         return healthParameterMapper.toResponseDto(healthParameter);
@@ -78,6 +87,24 @@ public class HealthParameterServiceImpl implements HealthParameterService {
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<HealthParameterResponseDto> getHealthParametersByUserId(Long userId, String cursor, int size) {
+        logger.info("Fetching health parameters for user ID: {} - cursor: {}, size: {}", userId, cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<HealthParameter> healthParameters;
+        if (first) {
+            healthParameters = healthParameterRepository.findKeysetFirstPageByUserId(userId, KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            healthParameters = healthParameterRepository.findKeysetPageByUserIdAfter(userId, after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(healthParameters, size, first, healthParameterMapper::toResponseDto,
+                healthParameter -> KeysetCursor.encode(healthParameter.getCreatedAt(), healthParameter.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public HealthParameterResponseDto getLatestHealthParameterByUserId(Long userId) {
@@ -0,0 +1,29 @@
+package com.jendo.app.domain.healthrecord.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a health record bulk import")
+public class HealthRecordImportResultDto {
+
+    @Schema(description = "Number of data rows read", example = "10000")
+    private long processed;
+
+    @Schema(description = "Number of rows stored", example = "9998")
+    private long imported;
+
+    @Schema(description = "Number of rows rejected", example = "2")
+    private long failed;
+
+    @Schema(description = "Rejected rows, capped at the first 1000")
+    private List<ImportRowErrorDto> errors;
+}
@@ -0,0 +1,21 @@
+package com.jendo.app.domain.healthrecord.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "A rejected import row")
+public class ImportRowErrorDto {
+
+    @Schema(description = "Line number of the row in the upload", example = "42")
+    private long line;
+
+    @Schema(description = "Why the row was rejected", example = "User not found with id: 7")
+    private String message;
+}
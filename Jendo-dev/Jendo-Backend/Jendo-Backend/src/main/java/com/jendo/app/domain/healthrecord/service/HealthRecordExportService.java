@@ -0,0 +1,8 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface HealthRecordExportService {
+    
+    StreamingResponseBody exportHealthRecord(Long userId, HealthRecordFormat format, boolean gzip);
+}
@@ -0,0 +1,180 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.appointment.mapper.AppointmentMapper;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.endotestreport.mapper.EndoTestReportMapper;
+import com.jendo.app.domain.endotestreport.repository.EndoTestReportRepository;
+import com.jendo.app.domain.healthparameter.mapper.HealthParameterMapper;
+import com.jendo.app.domain.healthparameter.repository.HealthParameterRepository;
+import com.jendo.app.domain.jendotest.mapper.JendoTestMapper;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+public class HealthRecordExportServiceImpl implements HealthRecordExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthRecordExportServiceImpl.class);
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int FLUSH_EVERY = 500;
+
+    private final UserRepository userRepository;
+    private final JendoTestRepository jendoTestRepository;
+    private final HealthParameterRepository healthParameterRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final EndoTestReportRepository endoTestReportRepository;
+    private final JendoTestMapper jendoTestMapper;
+    private final HealthParameterMapper healthParameterMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final EndoTestReportMapper endoTestReportMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public StreamingResponseBody exportHealthRecord(Long userId, HealthRecordFormat format, boolean gzip) {
+        logger.info("Exporting health record for user ID: {} as {}", userId, format);
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User", userId);
+        }
+
+        return out -> {
+            OutputStream target = gzip
+                    ? new GZIPOutputStream(out, BUFFER_SIZE, true)
+                    : new BufferedOutputStream(out, BUFFER_SIZE);
+            RecordWriter writer = format == HealthRecordFormat.CSV ? new CsvWriter(target) : new NdjsonWriter(target);
+
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            long records = transaction.execute(status -> {
+                long count = writeSection("jendoTest", jendoTestRepository.streamByUserId(userId),
+                        jendoTestMapper::toResponseDto, writer, target);
+                count += writeSection("healthParameter", healthParameterRepository.streamByUserId(userId),
+                        healthParameterMapper::toResponseDto, writer, target);
+                count += writeSection("appointment", appointmentRepository.streamByUserId(userId),
+                        appointmentMapper::toResponseDto, writer, target);
+                count += writeSection("endoTestReport", endoTestReportRepository.streamByUserId(userId),
+                        endoTestReportMapper::toResponseDto, writer, target);
+                return count;
+            });
+
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+            target.flush();
+            logger.info("Exported {} health records for user ID: {}", records, userId);
+        };
+    }
+
+    private <E> long writeSection(String type, Stream<E> rows, Function<E, ?> mapper,
+                                  RecordWriter writer, OutputStream target) {
+        long count = 0;
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                E row = iterator.next();
+                writer.write(type, mapper.apply(row));
+                entityManager.detach(row);
+                if (++count % FLUSH_EVERY == 0) {
+                    target.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+
+    private interface RecordWriter {
+
+        void write(String type, Object record) throws IOException;
+    }
+
+    private record ExportLine(String type, Object record) {
+    }
+
+    private class NdjsonWriter implements RecordWriter {
+
+        private final ObjectWriter json = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        private final OutputStream out;
+
+        NdjsonWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(String type, Object record) throws IOException {
+            out.write(json.writeValueAsBytes(new ExportLine(type, record)));
+            out.write('\n');
+        }
+    }
+
+    private class CsvWriter implements RecordWriter {
+
+        private final OutputStream out;
+        private String currentType;
+        private List<String> columns;
+
+        CsvWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(String type, Object record) throws IOException {
+            JsonNode fields = objectMapper.valueToTree(record);
+            StringBuilder line = new StringBuilder();
+            if (!type.equals(currentType)) {
+                currentType = type;
+                columns = new ArrayList<>();
+                fields.fieldNames().forEachRemaining(columns::add);
+                line.append("type");
+                columns.forEach(column -> line.append(',').append(escape(column)));
+                line.append('\n');
+            }
+
+            line.append(escape(type));
+            for (String column : columns) {
+                JsonNode value = fields.get(column);
+                line.append(',');
+                if (value != null && !value.isNull()) {
+                    line.append(escape(value.asText()));
+                }
+            }
+            line.append('\n');
+            out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
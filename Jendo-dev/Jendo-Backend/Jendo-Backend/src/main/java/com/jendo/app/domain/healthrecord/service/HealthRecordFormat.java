@@ -0,0 +1,36 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum HealthRecordFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    HealthRecordFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static HealthRecordFormat from(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(format -> format.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown health record format: " + value));
+    }
+}
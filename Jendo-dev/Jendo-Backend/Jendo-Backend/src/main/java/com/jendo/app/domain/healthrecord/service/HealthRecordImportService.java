@@ -0,0 +1,11 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import com.jendo.app.domain.healthrecord.dto.HealthRecordImportResultDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface HealthRecordImportService {
+    
+    HealthRecordImportResultDto importHealthRecords(InputStream in, HealthRecordFormat format) throws IOException;
+}
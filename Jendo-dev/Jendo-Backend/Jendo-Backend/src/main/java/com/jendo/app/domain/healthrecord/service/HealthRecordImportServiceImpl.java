@@ -0,0 +1,197 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.healthparameter.dto.HealthParameterRequestDto;
+import com.jendo.app.domain.healthparameter.entity.HealthParameter;
+import com.jendo.app.domain.healthparameter.mapper.HealthParameterMapper;
+import com.jendo.app.domain.healthparameter.repository.HealthParameterRepository;
+import com.jendo.app.domain.healthrecord.dto.HealthRecordImportResultDto;
+import com.jendo.app.domain.healthrecord.dto.ImportRowErrorDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.mapper.JendoTestMapper;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.jendotest.service.JendoTestRollups;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class HealthRecordImportServiceImpl implements HealthRecordImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthRecordImportServiceImpl.class);
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String JENDO_TEST = "jendoTest";
+    private static final String HEALTH_PARAMETER = "healthParameter";
+
+    private final UserRepository userRepository;
+    private final JendoTestRepository jendoTestRepository;
+    private final HealthParameterRepository healthParameterRepository;
+    private final JendoTestMapper jendoTestMapper;
+    private final HealthParameterMapper healthParameterMapper;
+    private final JendoTestRollups jendoTestRollups;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public HealthRecordImportResultDto importHealthRecords(InputStream in, HealthRecordFormat format) throws IOException {
+        logger.info("Importing health records as {}", format);
+        long started = System.nanoTime();
+        HealthRecordReader reader = new HealthRecordReader(in, format, objectMapper);
+        ImportProgress progress = new ImportProgress();
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (HealthRecordReader.Row row = reader.next(); row != null; row = reader.next()) {
+            progress.processed++;
+            ImportRow parsed = parse(row, progress);
+            if (parsed != null) {
+                chunk.add(parsed);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                store(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            store(chunk, progress);
+        }
+
+        logger.info("Imported {} of {} health records in {} ms, {} rejected", progress.imported, progress.processed,
+                (System.nanoTime() - started) / 1_000_000, progress.failed);
+        return HealthRecordImportResultDto.builder()
+                .processed(progress.processed)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors.stream().sorted(Comparator.comparingLong(ImportRowErrorDto::getLine)).toList())
+                .build();
+    }
+
+    private ImportRow parse(HealthRecordReader.Row row, ImportProgress progress) {
+        if (row.error() != null) {
+            progress.reject(row.line(), row.error());
+            return null;
+        }
+
+        Class<?> requestType = switch (row.type()) {
+            case JENDO_TEST -> JendoTestRequestDto.class;
+            case HEALTH_PARAMETER -> HealthParameterRequestDto.class;
+            default -> null;
+        };
+        if (requestType == null) {
+            progress.reject(row.line(), "Unsupported record type: " + row.type());
+            return null;
+        }
+
+        Object request;
+        try {
+            request = objectMapper.treeToValue(row.record(), requestType);
+        } catch (JsonProcessingException e) {
+            progress.reject(row.line(), "Invalid value: " + e.getOriginalMessage());
+            return null;
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(row.line(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+
+        Long userId = request instanceof JendoTestRequestDto test
+                ? test.getUserId()
+                : ((HealthParameterRequestDto) request).getUserId();
+        return new ImportRow(row.line(), userId, request);
+    }
+
+    private void store(List<ImportRow> chunk, ImportProgress progress) {
+        Set<Long> userIds = chunk.stream().map(ImportRow::userId).collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        List<ImportRow> accepted = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.userId())) {
+                accepted.add(row);
+            } else {
+                progress.reject(row.line(), new NotFoundException("User", row.userId()).getMessage());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> save(accepted));
+            progress.imported += accepted.size();
+        } catch (DataAccessException | TransactionException e) {
+            logger.warn("Rejected import batch of {} rows starting at line {}", accepted.size(), accepted.get(0).line(), e);
+            String message = "Batch rejected: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            accepted.forEach(row -> progress.reject(row.line(), message));
+        }
+    }
+
+    private void save(List<ImportRow> rows) {
+        List<JendoTest> tests = new ArrayList<>();
+        List<HealthParameter> parameters = new ArrayList<>();
+        Map<Long, Set<LocalDate>> testDates = new HashMap<>();
+        for (ImportRow row : rows) {
+            User user = userRepository.getReferenceById(row.userId());
+            if (row.request() instanceof JendoTestRequestDto request) {
+                tests.add(jendoTestMapper.toEntity(request, user));
+                testDates.computeIfAbsent(row.userId(), id -> new HashSet<>()).add(request.getTestDate());
+            } else {
+                parameters.add(healthParameterMapper.toEntity((HealthParameterRequestDto) row.request(), user));
+            }
+        }
+
+        jendoTestRepository.saveAll(tests);
+        healthParameterRepository.saveAll(parameters);
+        testDates.forEach(jendoTestRollups::rebuild);
+    }
+
+    private record ImportRow(long line, Long userId, Object request) {
+    }
+
+    private static class ImportProgress {
+
+        private long processed;
+        private long imported;
+        private long failed;
+        private final List<ImportRowErrorDto> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowErrorDto.builder().line(line).message(message).build());
+            }
+        }
+    }
+}
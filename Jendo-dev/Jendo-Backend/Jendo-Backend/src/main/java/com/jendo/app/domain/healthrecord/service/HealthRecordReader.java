@@ -0,0 +1,148 @@
+package com.jendo.app.domain.healthrecord.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+final class HealthRecordReader {
+
+    private static final int NONE = -2;
+
+    private final BufferedReader reader;
+    private final HealthRecordFormat format;
+    private final ObjectMapper objectMapper;
+    private long line;
+    private long recordLine;
+    private int peeked = NONE;
+    private List<String> columns;
+
+    HealthRecordReader(InputStream in, HealthRecordFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    Row next() throws IOException {
+        return format == HealthRecordFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private Row nextNdjson() throws IOException {
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                JsonNode type = node.get("type");
+                JsonNode record = node.get("record");
+                if (type == null || !type.isTextual() || record == null || !record.isObject()) {
+                    return Row.failed(line, "Expected {\"type\": ..., \"record\": {...}}");
+                }
+                return new Row(line, type.asText(), record, null);
+            } catch (JsonProcessingException e) {
+                return Row.failed(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    private Row nextCsv() throws IOException {
+        List<String> cells;
+        while ((cells = readCsvRecord()) != null) {
+            if (cells.size() == 1 && cells.get(0).isBlank()) {
+                continue;
+            }
+            if ("type".equals(cells.get(0))) {
+                columns = List.copyOf(cells.subList(1, cells.size()));
+                continue;
+            }
+            if (columns == null) {
+                return Row.failed(recordLine, "Missing header row");
+            }
+            if (cells.size() != columns.size() + 1) {
+                return Row.failed(recordLine, "Expected " + (columns.size() + 1) + " columns but found " + cells.size());
+            }
+
+            ObjectNode record = objectMapper.createObjectNode();
+            for (int i = 0; i < columns.size(); i++) {
+                String value = cells.get(i + 1);
+                if (!value.isEmpty()) {
+                    record.put(columns.get(i), value);
+                }
+            }
+            return new Row(recordLine, cells.get(0), record, null);
+        }
+        return null;
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordLine = ++line;
+
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (; c != -1; c = read()) {
+            if (quoted) {
+                if (c == '\n') {
+                    line++;
+                }
+                if (c != '"') {
+                    cell.append((char) c);
+                } else if (peek() == '"') {
+                    cell.append((char) read());
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                cell.append((char) c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private int read() throws IOException {
+        if (peeked != NONE) {
+            int c = peeked;
+            peeked = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == NONE) {
+            peeked = reader.read();
+        }
+        return peeked;
+    }
+
+    record Row(long line, String type, JsonNode record, String error) {
+
+        static Row failed(long line, String error) {
+            return new Row(line, null, null, error);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.jendo.app.domain.jendotest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Jendo test analytics for one cohort")
+public class CohortAnalyticsDto {
+
+    @Schema(description = "Cohort name", example = "female")
+    private String cohort;
+
+    @Schema(description = "Number of tests in the cohort", example = "1250")
+    private long testCount;
+
+    @Schema(description = "Average score", example = "78.42")
+    private BigDecimal averageScore;
+
+    @Schema(description = "Score percentiles keyed p25, p50, p75 and p90")
+    private Map<String, BigDecimal> scorePercentiles;
+
+    @Schema(description = "Number of tests per risk level")
+    private Map<String, Long> riskLevels;
+
+    @Schema(description = "Heart rate histogram")
+    private List<HeartRateBucketDto> heartRateHistogram;
+}
@@ -0,0 +1,24 @@
+package com.jendo.app.domain.jendotest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of tests with a heart rate in [from, to)")
+public class HeartRateBucketDto {
+
+    @Schema(description = "Inclusive lower bound", example = "70")
+    private int from;
+
+    @Schema(description = "Exclusive upper bound", example = "80")
+    private int to;
+
+    @Schema(description = "Number of tests in the bucket", example = "312")
+    private long count;
+}
@@ -42,6 +42,12 @@ public class JendoTestResponseDto {
     @Schema(description = "Blood pressure reading", example = "120/80")
     private String bloodPressure;
 
+    @Schema(description = "Systolic pressure parsed from the reading", example = "120")
+    private Integer systolic;
+
+    @Schema(description = "Diastolic pressure parsed from the reading", example = "80")
+    private Integer diastolic;
+
     @Schema(description = "Date of test", example = "2024-01-15")
     private LocalDate testDate;
 
@@ -0,0 +1,54 @@
+package com.jendo.app.domain.jendotest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated Jendo test results for one trend bucket")
+public class JendoTestTrendDto {
+
+    @Schema(description = "First day of the bucket", example = "2024-01-15")
+    private LocalDate bucketStart;
+
+    @Schema(description = "Last day of the bucket", example = "2024-01-21")
+    private LocalDate bucketEnd;
+
+    @Schema(description = "Number of tests in the bucket", example = "5")
+    private long testCount;
+
+    @Schema(description = "Average score", example = "82.40")
+    private BigDecimal averageScore;
+
+    @Schema(description = "Lowest score", example = "75.0")
+    private BigDecimal minScore;
+
+    @Schema(description = "Highest score", example = "90.5")
+    private BigDecimal maxScore;
+
+    @Schema(description = "Average heart rate", example = "71.6")
+    private BigDecimal averageHeartRate;
+
+    @Schema(description = "Lowest heart rate", example = "64")
+    private Integer minHeartRate;
+
+    @Schema(description = "Highest heart rate", example = "80")
+    private Integer maxHeartRate;
+
+    @Schema(description = "Number of low risk results", example = "3")
+    private long lowRiskCount;
+
+    @Schema(description = "Number of moderate risk results", example = "2")
+    private long moderateRiskCount;
+
+    @Schema(description = "Number of high risk results", example = "0")
+    private long highRiskCount;
+}
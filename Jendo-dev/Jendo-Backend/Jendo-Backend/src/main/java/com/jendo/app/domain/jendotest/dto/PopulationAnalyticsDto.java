@@ -0,0 +1,27 @@
+package com.jendo.app.domain.jendotest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Population-wide Jendo test analytics split into cohorts")
+public class PopulationAnalyticsDto {
+
+    @Schema(description = "Dimension the population is split by", example = "GENDER")
+    private String dimension;
+
+    @Schema(description = "When these figures were computed", example = "2024-01-15T10:30:00")
+    private LocalDateTime generatedAt;
+
+    @Schema(description = "Analytics per cohort")
+    private List<CohortAnalyticsDto> cohorts;
+}
@@ -15,7 +15,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jendo_tests")
+@Table(name = "jendo_tests", indexes = {
+        @Index(name = "idx_jendo_tests_user_id_test_date", columnList = "user_id, test_date"),
+        @Index(name = "idx_jendo_tests_systolic_test_date", columnList = "systolic, test_date"),
+        @Index(name = "idx_jendo_tests_diastolic_test_date", columnList = "diastolic, test_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -25,7 +29,8 @@ import java.util.List;
 public class JendoTest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jendo_tests_seq")
+    @SequenceGenerator(name = "jendo_tests_seq", sequenceName = "jendo_tests_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "score")
@@ -43,6 +48,12 @@ public class JendoTest {
     @Column(name = "blood_pressure", length = 20)
     private String bloodPressure;
 
+    @Column(name = "systolic")
+    private Integer systolic;
+
+    @Column(name = "diastolic")
+    private Integer diastolic;
+
     @Column(name = "test_date")
     private LocalDate testDate;
 
@@ -0,0 +1,69 @@
+package com.jendo.app.domain.jendotest.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "jendo_test_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "ux_jendo_test_rollups_bucket", columnNames = {"user_id", "resolution", "bucket_start"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JendoTestRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jendo_test_rollups_seq")
+    @SequenceGenerator(name = "jendo_test_rollups_seq", sequenceName = "jendo_test_rollups_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", length = 10, nullable = false)
+    private RollupResolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "test_count", nullable = false)
+    private long testCount;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum")
+    private BigDecimal scoreSum;
+
+    @Column(name = "score_min")
+    private BigDecimal scoreMin;
+
+    @Column(name = "score_max")
+    private BigDecimal scoreMax;
+
+    @Column(name = "heart_rate_count", nullable = false)
+    private long heartRateCount;
+
+    @Column(name = "heart_rate_sum")
+    private Long heartRateSum;
+
+    @Column(name = "heart_rate_min")
+    private Integer heartRateMin;
+
+    @Column(name = "heart_rate_max")
+    private Integer heartRateMax;
+
+    @Column(name = "low_risk_count", nullable = false)
+    private long lowRiskCount;
+
+    @Column(name = "moderate_risk_count", nullable = false)
+    private long moderateRiskCount;
+
+    @Column(name = "high_risk_count", nullable = false)
+    private long highRiskCount;
+}
@@ -0,0 +1,41 @@
+package com.jendo.app.domain.jendotest.entity;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum RollupResolution {
+
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate bucketEnd(LocalDate date) {
+        LocalDate start = bucketStart(date);
+        return switch (this) {
+            case DAILY -> start;
+            case WEEKLY -> start.plusDays(6);
+            case MONTHLY -> start.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    public static RollupResolution from(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(resolution -> resolution.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown resolution: " + value));
+    }
+}
@@ -2,37 +2,79 @@ package com.jendo.app.domain.jendotest.mapper;
 
 import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
 import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.entity.JendoTestRollup;
+import com.jendo.app.domain.jendotest.service.BloodPressure;
 import com.jendo.app.domain.user.entity.User;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 @Component
 public class JendoTestMapper {
 
     public JendoTest toEntity(JendoTestRequestDto dto, User user) {
-        return JendoTest.builder()
+        JendoTest test = JendoTest.builder()
                 .user(user)
                 .score(dto.getScore())
                 .heartRate(dto.getHeartRate())
                 .riskLevel(dto.getRiskLevel())
                 .testTime(dto.getTestTime())
-                .bloodPressure(dto.getBloodPressure())
                 .testDate(dto.getTestDate())
                 .build();
+        applyBloodPressure(test, dto.getBloodPressure());
+        return test;
+    }
+
+    public void applyBloodPressure(JendoTest test, String bloodPressure) {
+        BloodPressure reading = BloodPressure.parse(bloodPressure);
+        test.setBloodPressure(bloodPressure);
+        test.setSystolic(reading != null ? reading.systolic() : null);
+        test.setDiastolic(reading != null ? reading.diastolic() : null);
     }
 
     public JendoTestResponseDto toResponseDto(JendoTest entity) {
+        return toResponseDto(entity, entity.getUser().getFirstName() + " " + entity.getUser().getLastName());
+    }
+
+    public JendoTestResponseDto toResponseDto(JendoTest entity, String userName) {
         return JendoTestResponseDto.builder()
                 .id(entity.getId())
                 .userId(entity.getUser().getId())
-                .userName(entity.getUser().getFirstName() + " " + entity.getUser().getLastName())
+                .userName(userName)
                 .score(entity.getScore())
                 .heartRate(entity.getHeartRate())
                 .riskLevel(entity.getRiskLevel())
                 .testTime(entity.getTestTime())
                 .bloodPressure(entity.getBloodPressure())
+                .systolic(entity.getSystolic())
+                .diastolic(entity.getDiastolic())
                 .testDate(entity.getTestDate())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
+
+    public JendoTestTrendDto toTrendDto(JendoTestRollup rollup) {
+        return JendoTestTrendDto.builder()
+                .bucketStart(rollup.getBucketStart())
+                .bucketEnd(rollup.getResolution().bucketEnd(rollup.getBucketStart()))
+                .testCount(rollup.getTestCount())
+                .averageScore(average(rollup.getScoreSum(), rollup.getScoreCount()))
+                .minScore(rollup.getScoreMin())
+                .maxScore(rollup.getScoreMax())
+                .averageHeartRate(rollup.getHeartRateSum() != null
+                        ? average(BigDecimal.valueOf(rollup.getHeartRateSum()), rollup.getHeartRateCount()) : null)
+                .minHeartRate(rollup.getHeartRateMin())
+                .maxHeartRate(rollup.getHeartRateMax())
+                .lowRiskCount(rollup.getLowRiskCount())
+                .moderateRiskCount(rollup.getModerateRiskCount())
+                .highRiskCount(rollup.getHighRiskCount())
+                .build();
+    }
+
+    private static BigDecimal average(BigDecimal sum, long count) {
+        return sum != null && count > 0 ? sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP) : null;
+    }
 }
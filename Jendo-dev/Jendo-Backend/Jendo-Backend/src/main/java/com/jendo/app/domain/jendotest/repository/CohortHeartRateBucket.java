@@ -0,0 +1,10 @@
+package com.jendo.app.domain.jendotest.repository;
+
+public interface CohortHeartRateBucket {
+
+    String getCohort();
+
+    Integer getBucketStart();
+
+    Long getTestCount();
+}
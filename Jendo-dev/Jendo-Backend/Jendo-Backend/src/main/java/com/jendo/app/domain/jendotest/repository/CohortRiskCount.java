@@ -0,0 +1,10 @@
+package com.jendo.app.domain.jendotest.repository;
+
+public interface CohortRiskCount {
+
+    String getCohort();
+
+    String getRiskLevel();
+
+    Long getTestCount();
+}
@@ -0,0 +1,20 @@
+package com.jendo.app.domain.jendotest.repository;
+
+import java.math.BigDecimal;
+
+public interface CohortScoreStats {
+
+    String getCohort();
+
+    Long getTestCount();
+
+    BigDecimal getAverageScore();
+
+    BigDecimal getP25();
+
+    BigDecimal getP50();
+
+    BigDecimal getP75();
+
+    BigDecimal getP90();
+}
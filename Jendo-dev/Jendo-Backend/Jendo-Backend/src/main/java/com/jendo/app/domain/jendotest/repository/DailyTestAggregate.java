@@ -0,0 +1,33 @@
+package com.jendo.app.domain.jendotest.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyTestAggregate {
+
+    LocalDate getTestDate();
+
+    Long getTestCount();
+
+    Long getScoreCount();
+
+    BigDecimal getScoreSum();
+
+    BigDecimal getScoreMin();
+
+    BigDecimal getScoreMax();
+
+    Long getHeartRateCount();
+
+    Long getHeartRateSum();
+
+    Integer getHeartRateMin();
+
+    Integer getHeartRateMax();
+
+    Long getLowRiskCount();
+
+    Long getModerateRiskCount();
+
+    Long getHighRiskCount();
+}
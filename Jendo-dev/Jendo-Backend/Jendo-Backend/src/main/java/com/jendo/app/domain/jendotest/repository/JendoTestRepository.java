@@ -1,20 +1,125 @@
 package com.jendo.app.domain.jendotest.repository;
 
 import com.jendo.app.domain.jendotest.entity.JendoTest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface JendoTestRepository extends JpaRepository<JendoTest, Long> {
     
+    String COHORT_TESTS = "(select case cast(:dimension as varchar(20)) "
+            + "when 'GENDER' then coalesce(nullif(lower(trim(u.gender)), ''), 'unknown') "
+            + "when 'NATIONALITY' then coalesce(nullif(lower(trim(u.nationality)), ''), 'unknown') "
+            + "when 'AGE' then case when u.date_of_birth is null then 'unknown' "
+            + "when u.date_of_birth > :#{#today.minusYears(18)} then '0-17' when u.date_of_birth > :#{#today.minusYears(30)} then '18-29' "
+            + "when u.date_of_birth > :#{#today.minusYears(40)} then '30-39' when u.date_of_birth > :#{#today.minusYears(50)} then '40-49' "
+            + "when u.date_of_birth > :#{#today.minusYears(60)} then '50-59' when u.date_of_birth > :#{#today.minusYears(70)} then '60-69' "
+            + "else '70+' end "
+            + "else 'all' end as cohort, t.score, t.heart_rate, t.risk_level "
+            + "from jendo_tests t join users u on u.id = t.user_id) c ";
+    
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<JendoTest> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
     Page<JendoTest> findByUserId(Long userId, Pageable pageable);
     
+    @EntityGraph(attributePaths = "user")
+    Slice<JendoTest> findSliceByUserId(Long userId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
     List<JendoTest> findByUserIdAndTestDateBetween(Long userId, LocalDate startDate, LocalDate endDate);
     
     List<JendoTest> findByRiskLevel(String riskLevel);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "select t from JendoTest t where t.testDate >= :since "
+            + "and (t.systolic > :systolic or t.diastolic > :diastolic)",
+            countQuery = "select count(t) from JendoTest t where t.testDate >= :since "
+            + "and (t.systolic > :systolic or t.diastolic > :diastolic)")
+    Page<JendoTest> findElevatedBloodPressure(@Param("since") LocalDate since, @Param("systolic") int systolic,
+                                              @Param("diastolic") int diastolic, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "select t from JendoTest t where t.user.id = :userId and t.testDate >= :since "
+            + "and (t.systolic > :systolic or t.diastolic > :diastolic)",
+            countQuery = "select count(t) from JendoTest t where t.user.id = :userId and t.testDate >= :since "
+            + "and (t.systolic > :systolic or t.diastolic > :diastolic)")
+    Page<JendoTest> findElevatedBloodPressureByUserId(@Param("userId") Long userId, @Param("since") LocalDate since,
+                                                      @Param("systolic") int systolic, @Param("diastolic") int diastolic,
+                                                      Pageable pageable);
+    
+    @Query("select t.testDate as testDate, count(t) as testCount, count(t.score) as scoreCount, "
+            + "sum(t.score) as scoreSum, min(t.score) as scoreMin, max(t.score) as scoreMax, "
+            + "count(t.heartRate) as heartRateCount, sum(t.heartRate) as heartRateSum, "
+            + "min(t.heartRate) as heartRateMin, max(t.heartRate) as heartRateMax, "
+            + "sum(case when lower(t.riskLevel) = 'low' then 1 else 0 end) as lowRiskCount, "
+            + "sum(case when lower(t.riskLevel) in ('moderate', 'medium') then 1 else 0 end) as moderateRiskCount, "
+            + "sum(case when lower(t.riskLevel) = 'high' then 1 else 0 end) as highRiskCount "
+            + "from JendoTest t where t.user.id = :userId and t.testDate between :from and :to group by t.testDate")
+    List<DailyTestAggregate> aggregateDaily(@Param("userId") Long userId, @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select t from JendoTest t order by t.createdAt desc, t.id desc")
+    List<JendoTest> findKeysetFirstPage(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select t from JendoTest t where t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) "
+            + "order by t.createdAt desc, t.id desc")
+    List<JendoTest> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select t from JendoTest t where t.user.id = :userId order by t.createdAt desc, t.id desc")
+    List<JendoTest> findKeysetFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("select t from JendoTest t where t.user.id = :userId and t.createdAt <= :createdAt and (t.createdAt < :createdAt or t.id < :id) "
+            + "order by t.createdAt desc, t.id desc")
+    List<JendoTest> findKeysetPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id, Pageable pageable);
+    
+    @Query(nativeQuery = true, value = "select c.cohort as cohort, count(*) as testCount, avg(c.score) as averageScore, "
+            + "percentile_cont(0.25) within group (order by c.score) as p25, "
+            + "percentile_cont(0.5) within group (order by c.score) as p50, "
+            + "percentile_cont(0.75) within group (order by c.score) as p75, "
+            + "percentile_cont(0.9) within group (order by c.score) as p90 "
+            + "from " + COHORT_TESTS + "group by c.cohort order by c.cohort")
+    List<CohortScoreStats> findCohortScoreStats(@Param("dimension") String dimension, @Param("today") LocalDate today);
+    
+    @Query(nativeQuery = true, value = "select r.cohort as cohort, r.risk_level as riskLevel, count(*) as testCount "
+            + "from (select c.cohort, case when lower(c.risk_level) = 'medium' then 'moderate' "
+            + "else coalesce(lower(c.risk_level), 'unknown') end as risk_level from " + COHORT_TESTS + ") r "
+            + "group by r.cohort, r.risk_level order by r.cohort, r.risk_level")
+    List<CohortRiskCount> findCohortRiskCounts(@Param("dimension") String dimension, @Param("today") LocalDate today);
+    
+    @Query(nativeQuery = true, value = "select h.cohort as cohort, h.bucket_start as bucketStart, count(*) as testCount "
+            + "from (select c.cohort, (c.heart_rate / :width) * :width as bucket_start from " + COHORT_TESTS
+            + "where c.heart_rate is not null) h "
+            + "group by h.cohort, h.bucket_start order by h.cohort, h.bucket_start")
+    List<CohortHeartRateBucket> findCohortHeartRateHistogram(@Param("dimension") String dimension,
+                                                             @Param("width") int width, @Param("today") LocalDate today);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from JendoTest t where t.user.id = :userId order by t.testDate, t.id")
+    Stream<JendoTest> streamByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,25 @@
+package com.jendo.app.domain.jendotest.repository;
+
+import com.jendo.app.domain.jendotest.entity.JendoTestRollup;
+import com.jendo.app.domain.jendotest.entity.RollupResolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JendoTestRollupRepository extends JpaRepository<JendoTestRollup, Long> {
+    
+    @Query("select r from JendoTestRollup r where r.userId = :userId and r.resolution = :resolution "
+            + "and r.bucketStart between :from and :to order by r.bucketStart asc")
+    List<JendoTestRollup> findTrend(@Param("userId") Long userId, @Param("resolution") RollupResolution resolution,
+                                    @Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    @Query("select r from JendoTestRollup r where r.userId = :userId and r.bucketStart in :bucketStarts")
+    List<JendoTestRollup> findBuckets(@Param("userId") Long userId,
+                                      @Param("bucketStarts") Collection<LocalDate> bucketStarts);
+}
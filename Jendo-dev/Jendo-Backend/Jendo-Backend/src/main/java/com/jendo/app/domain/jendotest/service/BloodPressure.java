@@ -0,0 +1,20 @@
+package com.jendo.app.domain.jendotest.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public record BloodPressure(int systolic, int diastolic) {
+
+    private static final Pattern READING = Pattern.compile("^\\s*(\\d{2,3})\\s*/\\s*(\\d{2,3})");
+
+    public static BloodPressure parse(String bloodPressure) {
+        if (bloodPressure == null) {
+            return null;
+        }
+        Matcher matcher = READING.matcher(bloodPressure);
+        if (!matcher.find()) {
+            return null;
+        }
+        return new BloodPressure(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.jendo.app.domain.jendotest.service;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum CohortDimension {
+
+    ALL,
+    GENDER,
+    AGE,
+    NATIONALITY;
+
+    public static CohortDimension from(String value) {
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        return Arrays.stream(values())
+                .filter(dimension -> dimension.name().equals(normalized))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("Unknown cohort dimension: " + value));
+    }
+}
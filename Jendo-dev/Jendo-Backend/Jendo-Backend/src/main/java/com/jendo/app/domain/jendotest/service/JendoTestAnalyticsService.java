@@ -0,0 +1,8 @@
+package com.jendo.app.domain.jendotest.service;
+
+import com.jendo.app.domain.jendotest.dto.PopulationAnalyticsDto;
+
+public interface JendoTestAnalyticsService {
+    
+    PopulationAnalyticsDto getPopulationAnalytics(String dimension);
+}
@@ -0,0 +1,114 @@
+package com.jendo.app.domain.jendotest.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.jendo.app.domain.jendotest.dto.CohortAnalyticsDto;
+import com.jendo.app.domain.jendotest.dto.HeartRateBucketDto;
+import com.jendo.app.domain.jendotest.dto.PopulationAnalyticsDto;
+import com.jendo.app.domain.jendotest.repository.CohortHeartRateBucket;
+import com.jendo.app.domain.jendotest.repository.CohortRiskCount;
+import com.jendo.app.domain.jendotest.repository.CohortScoreStats;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+public class JendoTestAnalyticsServiceImpl implements JendoTestAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JendoTestAnalyticsServiceImpl.class);
+
+    private final JendoTestRepository jendoTestRepository;
+    private final int heartRateBucketWidth;
+    private final TransactionTemplate snapshot;
+    private final LoadingCache<CohortDimension, PopulationAnalyticsDto> analytics;
+
+    public JendoTestAnalyticsServiceImpl(@Value("${analytics.refresh-after:10m}") Duration refreshAfter,
+                                         @Value("${analytics.expire-after:1h}") Duration expireAfter,
+                                         @Value("${analytics.heart-rate-bucket-width:10}") int heartRateBucketWidth,
+                                         JendoTestRepository jendoTestRepository,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry) {
+        this.jendoTestRepository = jendoTestRepository;
+        this.heartRateBucketWidth = heartRateBucketWidth;
+        this.snapshot = new TransactionTemplate(transactionManager);
+        this.snapshot.setReadOnly(true);
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.analytics = Caffeine.newBuilder()
+                .refreshAfterWrite(refreshAfter)
+                .expireAfterWrite(expireAfter)
+                .recordStats()
+                .build(this::compute);
+        CaffeineCacheMetrics.monitor(meterRegistry, analytics, "populationAnalytics");
+    }
+
+    @Override
+    public PopulationAnalyticsDto getPopulationAnalytics(String dimension) {
+        logger.info("Fetching population Jendo test analytics by {}", dimension);
+        return analytics.get(CohortDimension.from(dimension));
+    }
+
+    private PopulationAnalyticsDto compute(CohortDimension dimension) {
+        logger.info("Computing population Jendo test analytics by {}", dimension);
+        return snapshot.execute(status -> aggregate(dimension));
+    }
+
+    private PopulationAnalyticsDto aggregate(CohortDimension dimension) {
+        LocalDate today = LocalDate.now();
+        Map<String, CohortAnalyticsDto> cohorts = new LinkedHashMap<>();
+
+        for (CohortScoreStats stats : jendoTestRepository.findCohortScoreStats(dimension.name(), today)) {
+            Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+            percentiles.put("p25", round(stats.getP25()));
+            percentiles.put("p50", round(stats.getP50()));
+            percentiles.put("p75", round(stats.getP75()));
+            percentiles.put("p90", round(stats.getP90()));
+            cohorts.put(stats.getCohort(), CohortAnalyticsDto.builder()
+                    .cohort(stats.getCohort())
+                    .testCount(stats.getTestCount())
+                    .averageScore(round(stats.getAverageScore()))
+                    .scorePercentiles(percentiles)
+                    .riskLevels(new TreeMap<>())
+                    .heartRateHistogram(new ArrayList<>())
+                    .build());
+        }
+        for (CohortRiskCount count : jendoTestRepository.findCohortRiskCounts(dimension.name(), today)) {
+            cohorts.get(count.getCohort()).getRiskLevels().put(count.getRiskLevel(), count.getTestCount());
+        }
+        for (CohortHeartRateBucket bucket : jendoTestRepository.findCohortHeartRateHistogram(
+                dimension.name(), heartRateBucketWidth, today)) {
+            cohorts.get(bucket.getCohort()).getHeartRateHistogram().add(HeartRateBucketDto.builder()
+                    .from(bucket.getBucketStart())
+                    .to(bucket.getBucketStart() + heartRateBucketWidth)
+                    .count(bucket.getTestCount())
+                    .build());
+        }
+
+        return PopulationAnalyticsDto.builder()
+                .dimension(dimension.name())
+                .generatedAt(LocalDateTime.now())
+                .cohorts(List.copyOf(cohorts.values()))
+                .build();
+    }
+
+    private static BigDecimal round(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.HALF_UP) : null;
+    }
+}
@@ -0,0 +1,246 @@
+package com.jendo.app.domain.jendotest.service;
+
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.entity.JendoTestRollup;
+import com.jendo.app.domain.jendotest.entity.RollupResolution;
+import com.jendo.app.domain.jendotest.repository.DailyTestAggregate;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.jendotest.repository.JendoTestRollupRepository;
+import com.jendo.app.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class JendoTestRollups {
+
+    private static final Logger logger = LoggerFactory.getLogger(JendoTestRollups.class);
+
+    private final JendoTestRollupRepository rollupRepository;
+    private final JendoTestRepository jendoTestRepository;
+    private final UserRepository userRepository;
+
+    public void add(JendoTest test) {
+        if (test.getTestDate() == null) {
+            return;
+        }
+        Long userId = test.getUser().getId();
+        lock(userId);
+
+        List<JendoTestRollup> rollups = buckets(userId, List.of(test.getTestDate()));
+        DailyTestAggregate delta = new SingleTest(test);
+        rollups.forEach(rollup -> merge(rollup, delta));
+        rollupRepository.saveAll(rollups);
+    }
+
+    public void rebuild(Long userId, Collection<LocalDate> testDates) {
+        List<LocalDate> dates = testDates.stream().filter(Objects::nonNull).distinct().toList();
+        if (dates.isEmpty()) {
+            return;
+        }
+        logger.debug("Rebuilding Jendo test rollups for user ID: {} around {}", userId, dates);
+        lock(userId);
+
+        List<JendoTestRollup> rollups = buckets(userId, dates);
+        LocalDate from = rollups.stream().map(JendoTestRollup::getBucketStart)
+                .min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = rollups.stream().map(rollup -> rollup.getResolution().bucketEnd(rollup.getBucketStart()))
+                .max(Comparator.naturalOrder()).orElseThrow();
+        NavigableMap<LocalDate, DailyTestAggregate> days = new TreeMap<>();
+        jendoTestRepository.aggregateDaily(userId, from, to).forEach(day -> days.put(day.getTestDate(), day));
+
+        List<JendoTestRollup> emptied = new ArrayList<>();
+        List<JendoTestRollup> filled = new ArrayList<>();
+        for (JendoTestRollup rollup : rollups) {
+            reset(rollup);
+            LocalDate end = rollup.getResolution().bucketEnd(rollup.getBucketStart());
+            days.subMap(rollup.getBucketStart(), true, end, true).values()
+                    .forEach(day -> merge(rollup, day));
+            if (rollup.getTestCount() > 0) {
+                filled.add(rollup);
+            } else if (rollup.getId() != null) {
+                emptied.add(rollup);
+            }
+        }
+        rollupRepository.saveAll(filled);
+        rollupRepository.deleteAll(emptied);
+    }
+
+    /**
+     * Locks several users' rollups at once, taking the row locks in id order so that transactions
+     * locking the same users from opposite ends cannot deadlock.
+     */
+    public void lock(Collection<Long> userIds) {
+        List<Long> locked = userRepository.lockAllById(userIds);
+        for (Long userId : userIds) {
+            if (!locked.contains(userId)) {
+                throw new NotFoundException("User", userId);
+            }
+        }
+    }
+
+    private void lock(Long userId) {
+        userRepository.lockById(userId)
+                .orElseThrow(() -> new NotFoundException("User", userId));
+    }
+
+    private List<JendoTestRollup> buckets(Long userId, Collection<LocalDate> testDates) {
+        Map<Bucket, JendoTestRollup> rollups = new LinkedHashMap<>();
+        for (LocalDate date : testDates) {
+            for (RollupResolution resolution : RollupResolution.values()) {
+                rollups.put(new Bucket(resolution, resolution.bucketStart(date)), null);
+            }
+        }
+
+        Set<LocalDate> bucketStarts = rollups.keySet().stream().map(Bucket::start).collect(Collectors.toSet());
+        for (JendoTestRollup rollup : rollupRepository.findBuckets(userId, bucketStarts)) {
+            rollups.replace(new Bucket(rollup.getResolution(), rollup.getBucketStart()), rollup);
+        }
+        rollups.replaceAll((bucket, rollup) -> rollup != null ? rollup : JendoTestRollup.builder()
+                .userId(userId)
+                .resolution(bucket.resolution())
+                .bucketStart(bucket.start())
+                .build());
+        return new ArrayList<>(rollups.values());
+    }
+
+    private static void merge(JendoTestRollup rollup, DailyTestAggregate day) {
+        rollup.setTestCount(rollup.getTestCount() + day.getTestCount());
+        rollup.setScoreCount(rollup.getScoreCount() + day.getScoreCount());
+        rollup.setScoreSum(sum(rollup.getScoreSum(), day.getScoreSum()));
+        rollup.setScoreMin(min(rollup.getScoreMin(), day.getScoreMin()));
+        rollup.setScoreMax(max(rollup.getScoreMax(), day.getScoreMax()));
+        rollup.setHeartRateCount(rollup.getHeartRateCount() + day.getHeartRateCount());
+        rollup.setHeartRateSum(sum(rollup.getHeartRateSum(), day.getHeartRateSum()));
+        rollup.setHeartRateMin(min(rollup.getHeartRateMin(), day.getHeartRateMin()));
+        rollup.setHeartRateMax(max(rollup.getHeartRateMax(), day.getHeartRateMax()));
+        rollup.setLowRiskCount(rollup.getLowRiskCount() + day.getLowRiskCount());
+        rollup.setModerateRiskCount(rollup.getModerateRiskCount() + day.getModerateRiskCount());
+        rollup.setHighRiskCount(rollup.getHighRiskCount() + day.getHighRiskCount());
+    }
+
+    private static void reset(JendoTestRollup rollup) {
+        rollup.setTestCount(0);
+        rollup.setScoreCount(0);
+        rollup.setScoreSum(null);
+        rollup.setScoreMin(null);
+        rollup.setScoreMax(null);
+        rollup.setHeartRateCount(0);
+        rollup.setHeartRateSum(null);
+        rollup.setHeartRateMin(null);
+        rollup.setHeartRateMax(null);
+        rollup.setLowRiskCount(0);
+        rollup.setModerateRiskCount(0);
+        rollup.setHighRiskCount(0);
+    }
+
+    private static BigDecimal sum(BigDecimal total, BigDecimal value) {
+        return total == null ? value : value == null ? total : total.add(value);
+    }
+
+    private static Long sum(Long total, Long value) {
+        return total == null ? value : value == null ? total : Long.valueOf(total + value);
+    }
+
+    private static <T extends Comparable<T>> T min(T current, T value) {
+        return current == null || (value != null && value.compareTo(current) < 0) ? value : current;
+    }
+
+    private static <T extends Comparable<T>> T max(T current, T value) {
+        return current == null || (value != null && value.compareTo(current) > 0) ? value : current;
+    }
+
+    private record Bucket(RollupResolution resolution, LocalDate start) {
+    }
+
+    private record SingleTest(JendoTest test) implements DailyTestAggregate {
+
+        @Override
+        public LocalDate getTestDate() {
+            return test.getTestDate();
+        }
+
+        @Override
+        public Long getTestCount() {
+            return 1L;
+        }
+
+        @Override
+        public Long getScoreCount() {
+            return test.getScore() != null ? 1L : 0L;
+        }
+
+        @Override
+        public BigDecimal getScoreSum() {
+            return test.getScore();
+        }
+
+        @Override
+        public BigDecimal getScoreMin() {
+            return test.getScore();
+        }
+
+        @Override
+        public BigDecimal getScoreMax() {
+            return test.getScore();
+        }
+
+        @Override
+        public Long getHeartRateCount() {
+            return test.getHeartRate() != null ? 1L : 0L;
+        }
+
+        @Override
+        public Long getHeartRateSum() {
+            return test.getHeartRate() != null ? test.getHeartRate().longValue() : null;
+        }
+
+        @Override
+        public Integer getHeartRateMin() {
+            return test.getHeartRate();
+        }
+
+        @Override
+        public Integer getHeartRateMax() {
+            return test.getHeartRate();
+        }
+
+        @Override
+        public Long getLowRiskCount() {
+            return riskIs("low");
+        }
+
+        @Override
+        public Long getModerateRiskCount() {
+            return riskIs("moderate", "medium");
+        }
+
+        @Override
+        public Long getHighRiskCount() {
+            return riskIs("high");
+        }
+
+        private long riskIs(String... levels) {
+            String riskLevel = test.getRiskLevel();
+            return riskLevel != null && List.of(levels).contains(riskLevel.toLowerCase(Locale.ROOT)) ? 1L : 0L;
+        }
+    }
+}
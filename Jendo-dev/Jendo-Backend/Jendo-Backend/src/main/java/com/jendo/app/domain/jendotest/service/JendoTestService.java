@@ -3,6 +3,7 @@ package com.jendo.app.domain.jendotest.service;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -15,10 +16,22 @@ public interface JendoTestService {
     
     PaginationResponse<JendoTestResponseDto> getAllTests(int page, int size);
     
+    PaginationResponse<JendoTestResponseDto> getAllTests(String cursor, int size);
+    
     PaginationResponse<JendoTestResponseDto> getTestsByUserId(Long userId, int page, int size);
     
+    PaginationResponse<JendoTestResponseDto> getTestsByUserId(Long userId, String cursor, int size);
+    
+    PaginationResponse<JendoTestResponseDto> getTestSliceByUserId(Long userId, int page, int size);
+    
     List<JendoTestResponseDto> getTestsByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate);
     
+    List<JendoTestTrendDto> getTrend(Long userId, String resolution, LocalDate startDate, LocalDate endDate);
+    
+    PaginationResponse<JendoTestResponseDto> getElevatedBloodPressureTests(Long userId, Integer systolicAbove,
+                                                                          Integer diastolicAbove, int days,
+                                                                          int page, int size);
+    
     JendoTestResponseDto updateTest(Long id, JendoTestRequestDto request);
     
     void deleteTest(Long id);
@@ -1,25 +1,36 @@
 package com.jendo.app.domain.jendotest.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.common.exceptions.ForeignKeyViolations;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
 import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.entity.RollupResolution;
 import com.jendo.app.domain.jendotest.mapper.JendoTestMapper;
 import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.jendotest.repository.JendoTestRollupRepository;
 import com.jendo.app.domain.user.entity.User;
 import com.jendo.app.domain.user.repository.UserRepository;
+import com.jendo.app.domain.user.service.UserSummaryCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,22 +41,34 @@ public class JendoTestServiceImpl implements JendoTestService {
 
     private static final Logger logger = LoggerFactory.getLogger(JendoTestServiceImpl.class);
     
+    private static final int MAX_LOOKBACK_DAYS = 3650;
+    
     private final JendoTestRepository jendoTestRepository;
     private final UserRepository userRepository;
     private final JendoTestMapper jendoTestMapper;
+    private final JendoTestRollupRepository jendoTestRollupRepository;
+    private final JendoTestRollups jendoTestRollups;
+    private final UserSummaryCache userSummaryCache;
 
     @Override
     public JendoTestResponseDto createTest(JendoTestRequestDto request) {
         logger.info("Creating new Jendo test for user ID: {}", request.getUserId());
         
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new NotFoundException("User", request.getUserId()));
+        User user = userRepository.getReferenceById(request.getUserId());
         
         JendoTest test = jendoTestMapper.toEntity(request, user);
-        test = jendoTestRepository.save(test);
+        try {
+            test = jendoTestRepository.saveAndFlush(test);
+        } catch (DataIntegrityViolationException e) {
+            if (!ForeignKeyViolations.isMissingParent(e)) {
+                throw e;
+            }
+            throw new NotFoundException("User", request.getUserId());
+        }
+        jendoTestRollups.add(test);
         
         logger.info("Jendo test created successfully with ID: {}", test.getId());
-        return jendoTestMapper.toResponseDto(test);
+        return jendoTestMapper.toResponseDto(test, userSummaryCache.get(request.getUserId()).fullName());
     }
 
     @Override
@@ -66,6 +89,24 @@ public class JendoTestServiceImpl implements JendoTestService {
         return buildPaginationResponse(testPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<JendoTestResponseDto> getAllTests(String cursor, int size) {
+        logger.info("Fetching all Jendo tests - cursor: {}, size: {}", cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<JendoTest> tests;
+        if (first) {
+            tests = jendoTestRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            tests = jendoTestRepository.findKeysetPageAfter(after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(tests, size, first, jendoTestMapper::toResponseDto,
+                jendoTest -> KeysetCursor.encode(jendoTest.getCreatedAt(), jendoTest.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<JendoTestResponseDto> getTestsByUserId(Long userId, int page, int size) {
@@ -75,6 +116,33 @@ public class JendoTestServiceImpl implements JendoTestService {
         return buildPaginationResponse(testPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<JendoTestResponseDto> getTestsByUserId(Long userId, String cursor, int size) {
+        logger.info("Fetching Jendo tests for user ID: {} - cursor: {}, size: {}", userId, cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<JendoTest> tests;
+        if (first) {
+            tests = jendoTestRepository.findKeysetFirstPageByUserId(userId, KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            tests = jendoTestRepository.findKeysetPageByUserIdAfter(userId, after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(tests, size, first, jendoTestMapper::toResponseDto,
+                jendoTest -> KeysetCursor.encode(jendoTest.getCreatedAt(), jendoTest.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<JendoTestResponseDto> getTestSliceByUserId(Long userId, int page, int size) {
+        logger.info("Fetching Jendo test slice for user ID: {} - page: {}, size: {}", userId, page, size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Slice<JendoTest> testSlice = jendoTestRepository.findSliceByUserId(userId, pageable);
+        return buildSliceResponse(testSlice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<JendoTestResponseDto> getTestsByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
@@ -83,14 +151,57 @@ public class JendoTestServiceImpl implements JendoTestService {
         return tests.stream().map(jendoTestMapper::toResponseDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<JendoTestTrendDto> getTrend(Long userId, String resolution, LocalDate startDate, LocalDate endDate) {
+        logger.info("Fetching {} Jendo test trend for user ID: {} between {} and {}", resolution, userId, startDate, endDate);
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("'endDate' must not be before 'startDate'");
+        }
+        
+        RollupResolution bucketResolution = RollupResolution.from(resolution);
+        return jendoTestRollupRepository.findTrend(userId, bucketResolution,
+                        bucketResolution.bucketStart(startDate), endDate).stream()
+                .map(jendoTestMapper::toTrendDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<JendoTestResponseDto> getElevatedBloodPressureTests(Long userId, Integer systolicAbove,
+                                                                                 Integer diastolicAbove, int days,
+                                                                                 int page, int size) {
+        logger.info("Fetching Jendo tests with systolic > {} or diastolic > {} in the last {} days for user ID: {}",
+                systolicAbove, diastolicAbove, days, userId);
+        if (systolicAbove == null && diastolicAbove == null) {
+            throw new BadRequestException("At least one of 'systolicAbove' or 'diastolicAbove' is required");
+        }
+        if (days < 1 || days > MAX_LOOKBACK_DAYS) {
+            throw new BadRequestException("Days must be between 1 and " + MAX_LOOKBACK_DAYS);
+        }
+        
+        LocalDate since = LocalDate.now().minusDays(days);
+        int systolic = systolicAbove != null ? systolicAbove : Integer.MAX_VALUE;
+        int diastolic = diastolicAbove != null ? diastolicAbove : Integer.MAX_VALUE;
+        Pageable pageable = PageRequest.of(page, size, Sort.by("testDate").descending().and(Sort.by("id").descending()));
+        Page<JendoTest> testPage = userId != null
+                ? jendoTestRepository.findElevatedBloodPressureByUserId(userId, since, systolic, diastolic, pageable)
+                : jendoTestRepository.findElevatedBloodPressure(since, systolic, diastolic, pageable);
+        return buildPaginationResponse(testPage);
+    }
+
     @Override
     public JendoTestResponseDto updateTest(Long id, JendoTestRequestDto request) {
         logger.info("Updating Jendo test with ID: {}", id);
         
         JendoTest test = jendoTestRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("JendoTest", id));
+        Long previousUserId = test.getUser().getId();
+        LocalDate previousDate = test.getTestDate();
         
-        if (request.getUserId() != null && !request.getUserId().equals(test.getUser().getId())) {
+        if (request.getUserId() != null && !request.getUserId().equals(previousUserId)) {
+            // Lock both users before the test references the new one; the rebuilds below re-lock them one at a time
+            jendoTestRollups.lock(List.of(previousUserId, request.getUserId()));
             User user = userRepository.findById(request.getUserId())
                     .orElseThrow(() -> new NotFoundException("User", request.getUserId()));
             test.setUser(user);
@@ -100,10 +211,16 @@ public class JendoTestServiceImpl implements JendoTestService {
         if (request.getHeartRate() != null) test.setHeartRate(request.getHeartRate());
         if (request.getRiskLevel() != null) test.setRiskLevel(request.getRiskLevel());
         if (request.getTestTime() != null) test.setTestTime(request.getTestTime());
-        if (request.getBloodPressure() != null) test.setBloodPressure(request.getBloodPressure());
+        if (request.getBloodPressure() != null) jendoTestMapper.applyBloodPressure(test, request.getBloodPressure());
         if (request.getTestDate() != null) test.setTestDate(request.getTestDate());
         
         test = jendoTestRepository.save(test);
+        if (previousUserId.equals(test.getUser().getId())) {
+            jendoTestRollups.rebuild(previousUserId, Arrays.asList(previousDate, test.getTestDate()));
+        } else {
+            jendoTestRollups.rebuild(previousUserId, Collections.singletonList(previousDate));
+            jendoTestRollups.rebuild(test.getUser().getId(), Collections.singletonList(test.getTestDate()));
+        }
         logger.info("Jendo test updated successfully with ID: {}", id);
         return jendoTestMapper.toResponseDto(test);
     }
@@ -112,11 +229,11 @@ public class JendoTestServiceImpl implements JendoTestService {
     public void deleteTest(Long id) {
         logger.info("Deleting Jendo test with ID: {}", id);
         
-        if (!jendoTestRepository.existsById(id)) {
-            throw new NotFoundException("JendoTest", id);
-        }
+        JendoTest test = jendoTestRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("JendoTest", id));
         
-        jendoTestRepository.deleteById(id);
+        jendoTestRepository.delete(test);
+        jendoTestRollups.rebuild(test.getUser().getId(), Collections.singletonList(test.getTestDate()));
         logger.info("Jendo test deleted successfully with ID: {}", id);
     }
     
@@ -135,4 +252,18 @@ public class JendoTestServiceImpl implements JendoTestService {
                 .last(testPage.isLast())
                 .build();
     }
+
+    private PaginationResponse<JendoTestResponseDto> buildSliceResponse(Slice<JendoTest> testSlice) {
+        List<JendoTestResponseDto> content = testSlice.getContent().stream()
+                .map(jendoTestMapper::toResponseDto)
+                .collect(Collectors.toList());
+
+        return PaginationResponse.<JendoTestResponseDto>builder()
+                .content(content)
+                .pageNumber(testSlice.getNumber())
+                .pageSize(testSlice.getSize())
+                .first(testSlice.isFirst())
+                .last(testSlice.isLast())
+                .build();
+    }
 }
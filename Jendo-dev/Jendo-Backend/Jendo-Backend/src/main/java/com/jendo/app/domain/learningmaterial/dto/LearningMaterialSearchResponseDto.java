@@ -0,0 +1,28 @@
+package com.jendo.app.domain.learningmaterial.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.jendo.app.common.dto.PaginationResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Relevance-ranked learning material search results with facet counts")
+public class LearningMaterialSearchResponseDto {
+
+    @JsonUnwrapped
+    private PaginationResponse<LearningMaterialResponseDto> results;
+
+    @Schema(description = "Number of matching materials per category", example = "{\"Heart Health\": 4, \"Nutrition\": 2}")
+    private Map<String, Long> categories;
+
+    @Schema(description = "Number of matching materials per type", example = "{\"Video\": 5, \"Article\": 1}")
+    private Map<String, Long> types;
+}
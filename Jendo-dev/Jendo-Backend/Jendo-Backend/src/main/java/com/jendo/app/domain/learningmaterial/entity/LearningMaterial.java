@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class LearningMaterial {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "learning_materials_seq")
+    @SequenceGenerator(name = "learning_materials_seq", sequenceName = "learning_materials_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "title", nullable = false, length = 200)
@@ -3,15 +3,31 @@ package com.jendo.app.domain.learningmaterial.repository;
 import com.jendo.app.domain.learningmaterial.entity.LearningMaterial;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface LearningMaterialRepository extends JpaRepository<LearningMaterial, Long> {
     
+    Slice<LearningMaterial> findSliceBy(Pageable pageable);
+    
     Page<LearningMaterial> findByCategory(String category, Pageable pageable);
     
+    Slice<LearningMaterial> findSliceByCategory(String category, Pageable pageable);
+    
     Page<LearningMaterial> findByType(String type, Pageable pageable);
     
-    Page<LearningMaterial> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @Query("select m from LearningMaterial m order by m.createdAt desc, m.id desc")
+    List<LearningMaterial> findKeysetFirstPage(Pageable pageable);
+    
+    @Query("select m from LearningMaterial m where m.createdAt <= :createdAt and (m.createdAt < :createdAt or m.id < :id) "
+            + "order by m.createdAt desc, m.id desc")
+    List<LearningMaterial> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id, Pageable pageable);
 }
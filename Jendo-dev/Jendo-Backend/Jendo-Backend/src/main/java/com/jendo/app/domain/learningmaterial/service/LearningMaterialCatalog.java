@@ -0,0 +1,253 @@
+package com.jendo.app.domain.learningmaterial.service;
+
+import com.jendo.app.domain.learningmaterial.entity.LearningMaterial;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class LearningMaterialCatalog {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "by", "for",
+            "from", "how", "in", "is", "it", "of", "on", "or", "the", "to", "what", "with", "your");
+    private static final double TITLE_WEIGHT = 3;
+    private static final double CATEGORY_WEIGHT = 2;
+    private static final double AUTHOR_WEIGHT = 1.5;
+    private static final double DESCRIPTION_WEIGHT = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(hit -> hit.document().createdAt(), Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(hit -> hit.document().id(), Comparator.reverseOrder());
+
+    private final Map<Long, Document> documents;
+    private final Map<String, Posting[]> postings;
+    private final double totalLength;
+
+    private LearningMaterialCatalog(Map<Long, Document> documents, Map<String, Posting[]> postings,
+                                    double totalLength) {
+        this.documents = documents;
+        this.postings = postings;
+        this.totalLength = totalLength;
+    }
+
+    static LearningMaterialCatalog of(Collection<LearningMaterial> materials) {
+        Map<Long, Document> documents = new HashMap<>();
+        materials.forEach(material -> documents.put(material.getId(), Document.of(material)));
+        Map<String, List<Posting>> lists = new HashMap<>();
+        double totalLength = 0;
+        for (Document document : documents.values().stream().sorted(Comparator.comparingLong(Document::id)).toList()) {
+            document.frequencies().forEach((term, frequency) ->
+                    lists.computeIfAbsent(term, key -> new ArrayList<>()).add(new Posting(document.id(), frequency)));
+            totalLength += document.length();
+        }
+        Map<String, Posting[]> postings = new HashMap<>();
+        lists.forEach((term, list) -> postings.put(term, list.toArray(new Posting[0])));
+        return new LearningMaterialCatalog(documents, postings, totalLength);
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    LearningMaterialCatalog with(LearningMaterial material) {
+        Document document = Document.of(material);
+        Map<Long, Document> updated = new HashMap<>(documents);
+        Document previous = updated.put(document.id(), document);
+        return reindexed(updated, previous, document);
+    }
+
+    LearningMaterialCatalog without(long id) {
+        if (!documents.containsKey(id)) {
+            return this;
+        }
+        Map<Long, Document> updated = new HashMap<>(documents);
+        Document previous = updated.remove(id);
+        return reindexed(updated, previous, null);
+    }
+
+    private LearningMaterialCatalog reindexed(Map<Long, Document> updated, Document previous, Document next) {
+        Map<String, Posting[]> postings = new HashMap<>(this.postings);
+        double totalLength = this.totalLength;
+        if (previous != null) {
+            for (String term : previous.frequencies().keySet()) {
+                Posting[] remaining = removed(postings.get(term), previous.id());
+                if (remaining.length == 0) {
+                    postings.remove(term);
+                } else {
+                    postings.put(term, remaining);
+                }
+            }
+            totalLength -= previous.length();
+        }
+        if (next != null) {
+            next.frequencies().forEach((term, frequency) ->
+                    postings.put(term, added(postings.get(term), new Posting(next.id(), frequency))));
+            totalLength += next.length();
+        }
+        return new LearningMaterialCatalog(updated, postings, totalLength);
+    }
+
+    SearchHits search(String query, String category, String type, int offset, int limit) {
+        Set<String> terms = terms(query);
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return SearchHits.EMPTY;
+        }
+
+        double averageLength = totalLength / documents.size();
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            Posting[] matches = postings.get(term);
+            if (matches == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (documents.size() - matches.length + 0.5) / (matches.length + 0.5));
+            for (Posting posting : matches) {
+                double length = documents.get(posting.id()).length();
+                double frequency = posting.frequency();
+                double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(posting.id(), score, Double::sum);
+            }
+        }
+
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Long> types = new HashMap<>();
+        List<Hit> hits = new ArrayList<>();
+        scores.forEach((id, score) -> {
+            Document document = documents.get(id);
+            boolean categoryMatches = category == null || category.equalsIgnoreCase(document.category());
+            boolean typeMatches = type == null || type.equalsIgnoreCase(document.type());
+            if (typeMatches && document.category() != null) {
+                categories.merge(document.category(), 1L, Long::sum);
+            }
+            if (categoryMatches && document.type() != null) {
+                types.merge(document.type(), 1L, Long::sum);
+            }
+            if (categoryMatches && typeMatches) {
+                hits.add(new Hit(document, score));
+            }
+        });
+
+        hits.sort(RANKING);
+        List<LearningMaterial> page = hits.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(hit -> hit.document().material())
+                .toList();
+        return new SearchHits(page, hits.size(), byCount(categories), byCount(types));
+    }
+
+    private static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text != null) {
+            for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                    terms.add(Stemmer.stem(token));
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static Map<String, Long> byCount(Map<String, Long> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static Posting[] added(Posting[] postings, Posting posting) {
+        if (postings == null) {
+            return new Posting[]{posting};
+        }
+        int at = Arrays.binarySearch(postings, posting, Comparator.comparingLong(Posting::id));
+        if (at >= 0) {
+            Posting[] updated = postings.clone();
+            updated[at] = posting;
+            return updated;
+        }
+        int insert = -at - 1;
+        Posting[] updated = new Posting[postings.length + 1];
+        System.arraycopy(postings, 0, updated, 0, insert);
+        updated[insert] = posting;
+        System.arraycopy(postings, insert, updated, insert + 1, postings.length - insert);
+        return updated;
+    }
+
+    private static Posting[] removed(Posting[] postings, long id) {
+        int at = Arrays.binarySearch(postings, new Posting(id, 0), Comparator.comparingLong(Posting::id));
+        if (at < 0) {
+            return postings;
+        }
+        Posting[] updated = new Posting[postings.length - 1];
+        System.arraycopy(postings, 0, updated, 0, at);
+        System.arraycopy(postings, at + 1, updated, at, postings.length - at - 1);
+        return updated;
+    }
+
+    record SearchHits(List<LearningMaterial> page, long total, Map<String, Long> categories,
+                      Map<String, Long> types) {
+
+        static final SearchHits EMPTY = new SearchHits(List.of(), 0, Map.of(), Map.of());
+    }
+
+    private record Posting(long id, double frequency) {
+    }
+
+    private record Hit(Document document, double score) {
+    }
+
+    private record Document(long id, LearningMaterial material, String category, String type,
+                            LocalDateTime createdAt, Map<String, Double> frequencies, double length) {
+
+        static Document of(LearningMaterial source) {
+            LearningMaterial material = LearningMaterial.builder()
+                    .id(source.getId())
+                    .title(source.getTitle())
+                    .author(source.getAuthor())
+                    .duration(source.getDuration())
+                    .description(source.getDescription())
+                    .type(source.getType())
+                    .videoUrl(source.getVideoUrl())
+                    .category(source.getCategory())
+                    .createdAt(source.getCreatedAt())
+                    .build();
+
+            Map<String, Double> frequencies = new HashMap<>();
+            double length = 0;
+            length += index(material.getTitle(), TITLE_WEIGHT, frequencies);
+            length += index(material.getCategory(), CATEGORY_WEIGHT, frequencies);
+            length += index(material.getAuthor(), AUTHOR_WEIGHT, frequencies);
+            length += index(material.getDescription(), DESCRIPTION_WEIGHT, frequencies);
+            return new Document(material.getId(), material, material.getCategory(), material.getType(),
+                    material.getCreatedAt(), Map.copyOf(frequencies), length);
+        }
+
+        private static double index(String text, double weight, Map<String, Double> frequencies) {
+            if (text == null) {
+                return 0;
+            }
+            double length = 0;
+            for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+                if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                    frequencies.merge(Stemmer.stem(token), weight, Double::sum);
+                    length += weight;
+                }
+            }
+            return length;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.jendo.app.domain.learningmaterial.service;
+
+import com.jendo.app.domain.learningmaterial.entity.LearningMaterial;
+import com.jendo.app.domain.learningmaterial.repository.LearningMaterialRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.UnaryOperator;
+
+@Component
+@RequiredArgsConstructor
+public class LearningMaterialSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LearningMaterialSearchIndex.class);
+
+    private final LearningMaterialRepository learningMaterialRepository;
+    private volatile LearningMaterialCatalog catalog;
+
+    LearningMaterialCatalog.SearchHits search(String query, String category, String type, int offset, int limit) {
+        return catalog().search(query, category, type, offset, limit);
+    }
+
+    public void putAfterCommit(LearningMaterial material) {
+        afterCommit(current -> current.with(material));
+    }
+
+    public void removeAfterCommit(Long id) {
+        afterCommit(current -> current.without(id));
+    }
+
+    private LearningMaterialCatalog catalog() {
+        LearningMaterialCatalog current = catalog;
+        return current != null ? current : load();
+    }
+
+    private synchronized LearningMaterialCatalog load() {
+        if (catalog == null) {
+            catalog = LearningMaterialCatalog.of(learningMaterialRepository.findAll());
+            logger.info("Indexed {} learning materials for search", catalog.size());
+        }
+        return catalog;
+    }
+
+    private void afterCommit(UnaryOperator<LearningMaterialCatalog> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(UnaryOperator<LearningMaterialCatalog> change) {
+        if (catalog != null) {
+            catalog = change.apply(catalog);
+        }
+    }
+}
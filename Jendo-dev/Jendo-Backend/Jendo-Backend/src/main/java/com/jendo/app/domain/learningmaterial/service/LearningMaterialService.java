@@ -3,6 +3,7 @@ package com.jendo.app.domain.learningmaterial.service;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialRequestDto;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialResponseDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialSearchResponseDto;
 
 public interface LearningMaterialService {
     
@@ -12,9 +13,15 @@ public interface LearningMaterialService {
     
     PaginationResponse<LearningMaterialResponseDto> getAllLearningMaterials(int page, int size);
     
+    PaginationResponse<LearningMaterialResponseDto> getAllLearningMaterials(String cursor, int size);
+    
+    PaginationResponse<LearningMaterialResponseDto> getLearningMaterialSlice(int page, int size);
+    
     PaginationResponse<LearningMaterialResponseDto> getLearningMaterialsByCategory(String category, int page, int size);
     
-    PaginationResponse<LearningMaterialResponseDto> searchLearningMaterials(String query, int page, int size);
+    PaginationResponse<LearningMaterialResponseDto> getLearningMaterialSliceByCategory(String category, int page, int size);
+    
+    LearningMaterialSearchResponseDto searchLearningMaterials(String query, String category, String type, int page, int size);
     
     LearningMaterialResponseDto updateLearningMaterial(Long id, LearningMaterialRequestDto request);
     
@@ -2,8 +2,10 @@ package com.jendo.app.domain.learningmaterial.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialRequestDto;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialResponseDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialSearchResponseDto;
 import com.jendo.app.domain.learningmaterial.entity.LearningMaterial;
 import com.jendo.app.domain.learningmaterial.mapper.LearningMaterialMapper;
 import com.jendo.app.domain.learningmaterial.repository.LearningMaterialRepository;
@@ -11,10 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -29,6 +34,7 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
     
     private final LearningMaterialRepository learningMaterialRepository;
     private final LearningMaterialMapper learningMaterialMapper;
+    private final LearningMaterialSearchIndex learningMaterialSearchIndex;
 
     @Override
     public LearningMaterialResponseDto createLearningMaterial(LearningMaterialRequestDto request) {
@@ -36,6 +42,7 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
         
         LearningMaterial material = learningMaterialMapper.toEntity(request);
         material = learningMaterialRepository.save(material);
+        learningMaterialSearchIndex.putAfterCommit(material);
         
         logger.info("Learning material created with ID: {}", material.getId());
         return learningMaterialMapper.toResponseDto(material);
@@ -59,6 +66,33 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
         return buildPaginationResponse(materialPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<LearningMaterialResponseDto> getAllLearningMaterials(String cursor, int size) {
+        logger.info("Fetching all learning materials - cursor: {}, size: {}", cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<LearningMaterial> materials;
+        if (first) {
+            materials = learningMaterialRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            materials = learningMaterialRepository.findKeysetPageAfter(after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(materials, size, first, learningMaterialMapper::toResponseDto,
+                learningMaterial -> KeysetCursor.encode(learningMaterial.getCreatedAt(), learningMaterial.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<LearningMaterialResponseDto> getLearningMaterialSlice(int page, int size) {
+        logger.info("Fetching learning material slice - page: {}, size: {}", page, size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Slice<LearningMaterial> materialSlice = learningMaterialRepository.findSliceBy(pageable);
+        return buildSliceResponse(materialSlice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<LearningMaterialResponseDto> getLearningMaterialsByCategory(String category, int page, int size) {
@@ -70,11 +104,28 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
 
     @Override
     @Transactional(readOnly = true)
-    public PaginationResponse<LearningMaterialResponseDto> searchLearningMaterials(String query, int page, int size) {
-        logger.info("Searching learning materials with query: {} - page: {}, size: {}", query, page, size);
+    public PaginationResponse<LearningMaterialResponseDto> getLearningMaterialSliceByCategory(String category, int page, int size) {
+        logger.info("Fetching learning material slice by category: {} - page: {}, size: {}", category, page, size);
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<LearningMaterial> materialPage = learningMaterialRepository.findByTitleContainingIgnoreCase(query, pageable);
-        return buildPaginationResponse(materialPage);
+        Slice<LearningMaterial> materialSlice = learningMaterialRepository.findSliceByCategory(category, pageable);
+        return buildSliceResponse(materialSlice);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public LearningMaterialSearchResponseDto searchLearningMaterials(String query, String category, String type,
+                                                                     int page, int size) {
+        logger.info("Searching learning materials with query: {} - category: {}, type: {}, page: {}, size: {}",
+                query, category, type, page, size);
+        Pageable pageable = PageRequest.of(page, size);
+        LearningMaterialCatalog.SearchHits hits = learningMaterialSearchIndex.search(query, category, type,
+                (int) pageable.getOffset(), size);
+        Page<LearningMaterial> materialPage = new PageImpl<>(hits.page(), pageable, hits.total());
+        return LearningMaterialSearchResponseDto.builder()
+                .results(buildPaginationResponse(materialPage))
+                .categories(hits.categories())
+                .types(hits.types())
+                .build();
     }
 
     @Override
@@ -93,6 +144,7 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
         if (request.getCategory() != null) material.setCategory(request.getCategory());
         
         material = learningMaterialRepository.save(material);
+        learningMaterialSearchIndex.putAfterCommit(material);
         logger.info("Learning material updated with ID: {}", id);
         return learningMaterialMapper.toResponseDto(material);
     }
@@ -104,6 +156,7 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
             throw new NotFoundException("LearningMaterial", id);
         }
         learningMaterialRepository.deleteById(id);
+        learningMaterialSearchIndex.removeAfterCommit(id);
     }
     
     private PaginationResponse<LearningMaterialResponseDto> buildPaginationResponse(Page<LearningMaterial> materialPage) {
@@ -121,4 +174,18 @@ public class LearningMaterialServiceImpl implements LearningMaterialService {
                 .last(materialPage.isLast())
                 .build();
     }
+
+    private PaginationResponse<LearningMaterialResponseDto> buildSliceResponse(Slice<LearningMaterial> materialSlice) {
+        List<LearningMaterialResponseDto> content = materialSlice.getContent().stream()
+                .map(learningMaterialMapper::toResponseDto)
+                .collect(Collectors.toList());
+
+        return PaginationResponse.<LearningMaterialResponseDto>builder()
+                .content(content)
+                .pageNumber(materialSlice.getNumber())
+                .pageSize(materialSlice.getSize())
+                .first(materialSlice.isFirst())
+                .last(materialSlice.isLast())
+                .build();
+    }
 }
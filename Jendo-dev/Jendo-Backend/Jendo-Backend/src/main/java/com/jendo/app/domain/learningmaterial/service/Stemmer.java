@@ -0,0 +1,64 @@
+package com.jendo.app.domain.learningmaterial.service;
+
+final class Stemmer {
+
+    private Stemmer() {
+    }
+
+    static String stem(String word) {
+        if (word.length() <= 3) {
+            return word;
+        }
+        String stem = word;
+        if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ies")) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+
+        if (stem.endsWith("eed")) {
+            if (stem.length() > 4) {
+                stem = stem.substring(0, stem.length() - 1);
+            }
+        } else if (stem.endsWith("ing") && hasVowel(stem, stem.length() - 3) && stem.length() > 5) {
+            stem = undouble(stem.substring(0, stem.length() - 3));
+        } else if (stem.endsWith("ed") && hasVowel(stem, stem.length() - 2) && stem.length() > 4) {
+            stem = undouble(stem.substring(0, stem.length() - 2));
+        }
+
+        if (stem.endsWith("ly") && stem.length() > 5) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        if (stem.endsWith("e") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        return stem;
+    }
+
+    private static String undouble(String stem) {
+        int length = stem.length();
+        if (length > 2 && stem.charAt(length - 1) == stem.charAt(length - 2) && !isVowel(stem.charAt(length - 1))
+                && "lsz".indexOf(stem.charAt(length - 1)) < 0) {
+            return stem.substring(0, length - 1);
+        }
+        if (stem.endsWith("at") || stem.endsWith("bl") || stem.endsWith("iz")) {
+            return stem + "e";
+        }
+        return stem;
+    }
+
+    private static boolean hasVowel(String word, int end) {
+        for (int i = 0; i < end; i++) {
+            if (isVowel(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVowel(char c) {
+        return "aeiouy".indexOf(c) >= 0;
+    }
+}
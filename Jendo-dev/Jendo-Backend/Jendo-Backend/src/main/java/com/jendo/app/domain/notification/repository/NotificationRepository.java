@@ -3,17 +3,52 @@ package com.jendo.app.domain.notification.repository;
 import com.jendo.app.domain.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
     
     Page<Notification> findByUserId(Long userId, Pageable pageable);
     
+    Slice<Notification> findSliceByUserId(Long userId, Pageable pageable);
+    
     List<Notification> findByUserIdAndIsReadFalse(Long userId);
     
     long countByUserIdAndIsReadFalse(Long userId);
+    
+    @Query("select n.user.id from Notification n where n.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+    
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.id = :id and n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+    
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.user.id = :userId and n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query("delete from Notification n where n.id = :id and n.isRead = false")
+    int deleteIfUnread(@Param("id") Long id);
+    
+    @Modifying
+    @Query("delete from Notification n where n.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
+    
+    @Query("select n from Notification n where n.user.id = :userId order by n.createdAt desc, n.id desc")
+    List<Notification> findKeysetFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    @Query("select n from Notification n where n.user.id = :userId and n.createdAt <= :createdAt and (n.createdAt < :createdAt or n.id < :id) "
+            + "order by n.createdAt desc, n.id desc")
+    List<Notification> findKeysetPageByUserIdAfter(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id, Pageable pageable);
 }
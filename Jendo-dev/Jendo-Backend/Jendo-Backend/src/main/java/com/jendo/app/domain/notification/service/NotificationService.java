@@ -3,6 +3,7 @@ package com.jendo.app.domain.notification.service;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.notification.dto.NotificationRequestDto;
 import com.jendo.app.domain.notification.dto.NotificationResponseDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,13 +15,19 @@ public interface NotificationService {
     
     PaginationResponse<NotificationResponseDto> getNotificationsByUserId(Long userId, int page, int size);
     
+    PaginationResponse<NotificationResponseDto> getNotificationsByUserId(Long userId, String cursor, int size);
+    
+    PaginationResponse<NotificationResponseDto> getNotificationSliceByUserId(Long userId, int page, int size);
+    
     List<NotificationResponseDto> getUnreadNotificationsByUserId(Long userId);
     
     long getUnreadCountByUserId(Long userId);
     
+    SseEmitter subscribe(Long userId);
+    
     NotificationResponseDto markAsRead(Long id);
     
-    void markAllAsRead(Long userId);
+    int markAllAsRead(Long userId);
     
     void deleteNotification(Long id);
 }
@@ -1,7 +1,9 @@
 package com.jendo.app.domain.notification.service;
 
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.ForeignKeyViolations;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.notification.dto.NotificationRequestDto;
 import com.jendo.app.domain.notification.dto.NotificationResponseDto;
 import com.jendo.app.domain.notification.entity.Notification;
@@ -12,12 +14,17 @@ import com.jendo.app.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,19 +39,32 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final NotificationMapper notificationMapper;
+    private final UnreadCountCache unreadCountCache;
+    private final NotificationStreamRegistry streamRegistry;
 
     @Override
     public NotificationResponseDto createNotification(NotificationRequestDto request) {
         logger.info("Creating notification for user ID: {}", request.getUserId());
         
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new NotFoundException("User", request.getUserId()));
+        User user = userRepository.getReferenceById(request.getUserId());
         
         Notification notification = notificationMapper.toEntity(request, user);
-        notification = notificationRepository.save(notification);
+        try {
+            notification = notificationRepository.saveAndFlush(notification);
+        } catch (DataIntegrityViolationException e) {
+            if (!ForeignKeyViolations.isMissingParent(e)) {
+                throw e;
+            }
+            throw new NotFoundException("User", request.getUserId());
+        }
+        if (Boolean.FALSE.equals(notification.getIsRead())) {
+            unreadCountCache.adjust(user.getId(), 1);
+        }
         
         logger.info("Notification created with ID: {}", notification.getId());
-        return notificationMapper.toResponseDto(notification);
+        NotificationResponseDto response = notificationMapper.toResponseDto(notification);
+        publishAfterCommit(user.getId(), response);
+        return response;
     }
 
     @Override
@@ -78,6 +98,33 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<NotificationResponseDto> getNotificationsByUserId(Long userId, String cursor, int size) {
+        logger.info("Fetching notifications for user ID: {} - cursor: {}, size: {}", userId, cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<Notification> notifications;
+        if (first) {
+            notifications = notificationRepository.findKeysetFirstPageByUserId(userId, KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            notifications = notificationRepository.findKeysetPageByUserIdAfter(userId, after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        return KeysetCursor.toResponse(notifications, size, first, notificationMapper::toResponseDto,
+                notification -> KeysetCursor.encode(notification.getCreatedAt(), notification.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<NotificationResponseDto> getNotificationSliceByUserId(Long userId, int page, int size) {
+        logger.info("Fetching notification slice for user ID: {} - page: {}, size: {}", userId, page, size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Slice<Notification> notificationSlice = notificationRepository.findSliceByUserId(userId, pageable);
+        return buildSliceResponse(notificationSlice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getUnreadNotificationsByUserId(Long userId) {
@@ -89,33 +136,90 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional(readOnly = true)
     public long getUnreadCountByUserId(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCountCache.get(userId, notificationRepository::countByUserIdAndIsReadFalse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(Long userId) {
+        logger.info("Opening notification stream for user ID: {}", userId);
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User", userId);
+        }
+        return streamRegistry.subscribe(userId, getUnreadCountByUserId(userId));
     }
 
     @Override
     public NotificationResponseDto markAsRead(Long id) {
         logger.info("Marking notification as read - ID: {}", id);
+        Long userId = notificationRepository.findUserIdById(id)
+                .orElseThrow(() -> new NotFoundException("Notification", id));
+        int updated = notificationRepository.markAsReadIfUnread(id);
+        unreadCountCache.adjust(userId, -updated);
+        if (updated > 0) {
+            publishAfterCommit(userId, null);
+        }
+
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Notification", id));
-        notification.setIsRead(true);
-        notification = notificationRepository.save(notification);
         return notificationMapper.toResponseDto(notification);
     }
 
     @Override
-    public void markAllAsRead(Long userId) {
+    public int markAllAsRead(Long userId) {
         logger.info("Marking all notifications as read for user ID: {}", userId);
-        List<Notification> notifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
-        notifications.forEach(n -> n.setIsRead(true));
-        notificationRepository.saveAll(notifications);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        unreadCountCache.adjust(userId, -updated);
+        if (updated > 0) {
+            publishAfterCommit(userId, null);
+        }
+        logger.info("Marked {} notifications as read for user ID: {}", updated, userId);
+        return updated;
     }
 
     @Override
     public void deleteNotification(Long id) {
         logger.info("Deleting notification with ID: {}", id);
-        if (!notificationRepository.existsById(id)) {
-            throw new NotFoundException("Notification", id);
+        Long userId = notificationRepository.findUserIdById(id)
+                .orElseThrow(() -> new NotFoundException("Notification", id));
+        int unreadDeleted = notificationRepository.deleteIfUnread(id);
+        if (unreadDeleted > 0) {
+            unreadCountCache.adjust(userId, -unreadDeleted);
+            publishAfterCommit(userId, null);
+        } else {
+            notificationRepository.deleteByIdReturningCount(id);
+        }
+    }
+
+    private PaginationResponse<NotificationResponseDto> buildSliceResponse(Slice<Notification> notificationSlice) {
+        List<NotificationResponseDto> content = notificationSlice.getContent().stream()
+                .map(notificationMapper::toResponseDto)
+                .collect(Collectors.toList());
+
+        return PaginationResponse.<NotificationResponseDto>builder()
+                .content(content)
+                .pageNumber(notificationSlice.getNumber())
+                .pageSize(notificationSlice.getSize())
+                .first(notificationSlice.isFirst())
+                .last(notificationSlice.isLast())
+                .build();
+    }
+
+    private void publishAfterCommit(Long userId, NotificationResponseDto created) {
+        if (!streamRegistry.hasSubscribers(userId) || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
         }
-        notificationRepository.deleteById(id);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    return;
+                }
+                if (created != null) {
+                    streamRegistry.publishNotification(userId, created);
+                }
+                streamRegistry.publishUnreadCount(userId, () -> getUnreadCountByUserId(userId));
+            }
+        });
     }
 }
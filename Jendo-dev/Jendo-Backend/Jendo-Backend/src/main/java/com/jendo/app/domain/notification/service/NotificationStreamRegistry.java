@@ -0,0 +1,220 @@
+package com.jendo.app.domain.notification.service;
+
+import com.jendo.app.domain.notification.dto.NotificationResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+@Component
+public class NotificationStreamRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationStreamRegistry.class);
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String UNREAD_COUNT_EVENT = "unread-count";
+    static final String RESYNC_EVENT = "resync";
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final long timeoutMillis;
+    private final Executor executor;
+
+    @Autowired
+    public NotificationStreamRegistry(@Value("${notifications.stream.buffer-size:64}") int bufferSize,
+                                      @Value("${notifications.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                      @Value("${notifications.stream.timeout:30m}") Duration timeout,
+                                      @Value("${notifications.stream.sender-threads:8}") int senderThreads) {
+        this(bufferSize, maxConnectionsPerUser, timeout, Executors.newFixedThreadPool(senderThreads, senderThreadFactory()));
+    }
+
+    NotificationStreamRegistry(int bufferSize, int maxConnectionsPerUser, Duration timeout, Executor executor) {
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = executor;
+    }
+
+    public SseEmitter subscribe(Long userId, long unreadCount) {
+        Connection connection = new Connection(userId, createEmitter(timeoutMillis));
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> {
+            remove(connection);
+            emitter.complete();
+        });
+        emitter.onError(error -> remove(connection));
+
+        Set<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            Set<Connection> updated = existing != null ? existing : new CopyOnWriteArraySet<>();
+            updated.add(connection);
+            return updated;
+        });
+        evictOldest(userConnections);
+
+        logger.info("Notification stream opened for user ID: {} ({} open)", userId, userConnections.size());
+        connection.offer(unreadCountEvent(unreadCount));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        Set<Connection> userConnections = connections.get(userId);
+        return userConnections != null && !userConnections.isEmpty();
+    }
+
+    public void publishNotification(Long userId, NotificationResponseDto notification) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.offer(SseEmitter.event()
+                    .name(NOTIFICATION_EVENT)
+                    .id(String.valueOf(notification.getId()))
+                    .data(notification, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    public void publishUnreadCount(Long userId, LongSupplier unreadCount) {
+        if (!hasSubscribers(userId)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                long count = unreadCount.getAsLong();
+                Set<Connection> userConnections = connections.get(userId);
+                if (userConnections != null) {
+                    userConnections.forEach(connection -> connection.offer(unreadCountEvent(count)));
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to publish unread count for user ID: {}", userId, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${notifications.stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection ->
+                connection.offer(SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int connectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(connection -> connection.emitter.complete()));
+        connections.clear();
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void evictOldest(Set<Connection> userConnections) {
+        Iterator<Connection> iterator = userConnections.iterator();
+        while (userConnections.size() > maxConnectionsPerUser && iterator.hasNext()) {
+            Connection oldest = iterator.next();
+            remove(oldest);
+            oldest.emitter.complete();
+        }
+    }
+
+    private void remove(Connection connection) {
+        connection.closed = true;
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder unreadCountEvent(long count) {
+        return SseEmitter.event().name(UNREAD_COUNT_EVENT).data(count);
+    }
+
+    private static ThreadFactory senderThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "notification-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class Connection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                logger.warn("Notification stream buffer full for user ID: {}, asking client to resync", userId);
+                queue.clear();
+                queue.offer(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("Notification stream closed for user ID: {}", userId);
+                remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+                if (!closed && !queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.jendo.app.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+@Component
+public class UnreadCountCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCountCache.class);
+
+    private static final int STRIPES = 64;
+
+    private final Cache<Long, Long> counts;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public UnreadCountCache(@Value("${notifications.unread-cache.max-size:100000}") long maxSize,
+                            @Value("${notifications.unread-cache.ttl:1m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new SinceLoad(ttl))
+                .recordStats()
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, counts, "unreadNotifications");
+    }
+
+    public long get(Long userId, ToLongFunction<Long> loader) {
+        Long cached = counts.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Stripe stripe = stripeFor(userId);
+        long epoch;
+        synchronized (stripe) {
+            epoch = stripe.epoch;
+        }
+        long count = loader.applyAsLong(userId);
+        synchronized (stripe) {
+            if (stripe.pending == 0 && stripe.epoch == epoch) {
+                counts.put(userId, count);
+            }
+        }
+        return count;
+    }
+
+    public void adjust(Long userId, long delta) {
+        if (delta != 0) {
+            afterCommit(userId, () -> counts.asMap().computeIfPresent(userId, (id, count) -> count + delta));
+        }
+    }
+
+    public void evict(Long userId) {
+        afterCommit(userId, () -> counts.invalidate(userId));
+    }
+
+    private void afterCommit(Long userId, Runnable action) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            stripe.pending++;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            complete(stripe, action, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                complete(stripe, action, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private void complete(Stripe stripe, Runnable action, boolean committed) {
+        synchronized (stripe) {
+            try {
+                if (committed) {
+                    action.run();
+                } else {
+                    logger.debug("Transaction rolled back, unread count left unchanged");
+                }
+            } finally {
+                stripe.pending--;
+                stripe.epoch++;
+            }
+        }
+    }
+
+    private Stripe stripeFor(Long userId) {
+        return stripes[Math.floorMod(userId.hashCode(), STRIPES)];
+    }
+
+    // Expiry runs from the database load; adjust() keeps the deadline so a drifted count still reloads.
+    private static final class SinceLoad implements Expiry<Long, Long> {
+        private final long ttlNanos;
+
+        private SinceLoad(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long userId, Long count, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long userId, Long count, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Long userId, Long count, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static final class Stripe {
+        private int pending;
+        private long epoch;
+    }
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class ReportCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_categories_seq")
+    @SequenceGenerator(name = "report_categories_seq", sequenceName = "report_categories_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 200)
@@ -20,7 +20,8 @@ import java.util.List;
 public class ReportItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_items_seq")
+    @SequenceGenerator(name = "report_items_seq", sequenceName = "report_items_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 200)
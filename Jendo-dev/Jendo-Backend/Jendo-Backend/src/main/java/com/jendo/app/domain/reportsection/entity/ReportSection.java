@@ -18,7 +18,8 @@ import java.util.List;
 public class ReportSection {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "report_sections_seq")
+    @SequenceGenerator(name = "report_sections_seq", sequenceName = "report_sections_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", nullable = false, length = 200)
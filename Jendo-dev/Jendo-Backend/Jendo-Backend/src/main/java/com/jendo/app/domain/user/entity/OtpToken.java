@@ -6,6 +6,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -13,14 +15,17 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "otp_tokens")
+@Table(name = "otp_tokens", indexes = {
+        @Index(name = "idx_otp_tokens_email_otp", columnList = "email, otp")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class OtpToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "otp_tokens_seq")
+    @SequenceGenerator(name = "otp_tokens_seq", sequenceName = "otp_tokens_id_seq", allocationSize = 50)
     private Long id;
     private String email;
     private String otp;
@@ -1,20 +1,45 @@
 package com.jendo.app.domain.user.repository;
 
 import com.jendo.app.domain.user.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
     
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
     
-    Page<User> findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-            String firstName, String lastName, Pageable pageable);
+    @Query(value = "select id from users where id = :id for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+    
+    @Query(value = "select id from users where id in (:ids) order by id for update", nativeQuery = true)
+    List<Long> lockAllById(@Param("ids") Collection<Long> ids);
+    
+    @Query("select new com.jendo.app.domain.user.repository.UserSummary(u.id, u.firstName, u.lastName) "
+            + "from User u where u.id = :id")
+    Optional<UserSummary> findSummaryById(@Param("id") Long id);
+    
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("select distinct u from User u left join fetch u.roles where u.id in :ids")
+    List<User> fetchRolesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("select u from User u order by u.createdAt desc, u.id desc")
+    List<User> findKeysetFirstPage(Pageable pageable);
+    
+    @Query("select u from User u where u.createdAt <= :createdAt and (u.createdAt < :createdAt or u.id < :id) "
+            + "order by u.createdAt desc, u.id desc")
+    List<User> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id, Pageable pageable);
 }
@@ -0,0 +1,10 @@
+package com.jendo.app.domain.user.repository;
+
+import com.jendo.app.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface UserSearchRepository {
+
+    Page<User> search(String query, Pageable pageable);
+}
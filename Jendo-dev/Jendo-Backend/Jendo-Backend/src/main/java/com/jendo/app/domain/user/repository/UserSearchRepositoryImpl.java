@@ -0,0 +1,77 @@
+package com.jendo.app.domain.user.repository;
+
+import com.jendo.app.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final String DOCUMENT = "lower(first_name || ' ' || last_name || ' ' || email || ' ' || coalesce(phone, ''))";
+    private static final String FULL_NAME = "lower(first_name || ' ' || last_name)";
+    private static final int MAX_TERMS = 5;
+
+    private final EntityManager entityManager;
+    private final boolean trigrams;
+
+    public UserSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.trigrams = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<User> search(String query, Pageable pageable) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        List<String> terms = Arrays.stream(normalized.split(" "))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < terms.size(); i++) {
+            where.append(i == 0 ? " where " : " and ")
+                    .append(DOCUMENT).append(" like :term").append(i).append(" escape '\\'");
+        }
+        String order = " order by case when " + FULL_NAME + " like :prefix escape '\\' then 0 else 1 end"
+                + (trigrams ? ", word_similarity(:query, " + FULL_NAME + ") desc" : "")
+                + ", created_at desc, id desc";
+
+        Query select = entityManager.createNativeQuery("select * from users" + where + order, User.class);
+        bindTerms(select, terms);
+        select.setParameter("prefix", escape(normalized) + "%");
+        if (trigrams) {
+            select.setParameter("query", normalized);
+        }
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        List<User> users = select.getResultList();
+
+        Query count = entityManager.createNativeQuery("select count(*) from users" + where);
+        bindTerms(count, terms);
+        return PageableExecutionUtils.getPage(users, pageable, () -> ((Number) count.getSingleResult()).longValue());
+    }
+
+    private static void bindTerms(Query query, List<String> terms) {
+        for (int i = 0; i < terms.size(); i++) {
+            query.setParameter("term" + i, "%" + escape(terms.get(i)) + "%");
+        }
+    }
+
+    private static String escape(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,8 @@
+package com.jendo.app.domain.user.repository;
+
+public record UserSummary(Long id, String firstName, String lastName) {
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -15,6 +15,8 @@ public interface UserService {
     
     PaginationResponse<UserResponseDto> getAllUsers(int page, int size);
     
+    PaginationResponse<UserResponseDto> getAllUsers(String cursor, int size);
+    
     PaginationResponse<UserResponseDto> searchUsers(String query, int page, int size);
     
     UserResponseDto updateUser(Long id, UserUpdateDto request);
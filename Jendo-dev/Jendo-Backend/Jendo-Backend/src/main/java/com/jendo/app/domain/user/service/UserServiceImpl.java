@@ -3,6 +3,7 @@ package com.jendo.app.domain.user.service;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.common.exceptions.ConflictException;
 import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.common.pagination.KeysetCursor;
 import com.jendo.app.domain.user.dto.UserRequestDto;
 import com.jendo.app.domain.user.dto.UserResponseDto;
 import com.jendo.app.domain.user.dto.UserUpdateDto;
@@ -11,6 +12,7 @@ import com.jendo.app.domain.user.entity.User;
 import com.jendo.app.domain.user.mapper.UserMapper;
 import com.jendo.app.domain.user.repository.RoleRepository;
 import com.jendo.app.domain.user.repository.UserRepository;
+import com.jendo.app.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +40,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final UserSummaryCache userSummaryCache;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
@@ -105,13 +109,30 @@ public class UserServiceImpl implements UserService {
         return buildPaginationResponse(userPage);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PaginationResponse<UserResponseDto> getAllUsers(String cursor, int size) {
+        logger.info("Fetching all users - cursor: {}, size: {}", cursor, size);
+        boolean first = KeysetCursor.isFirstPage(cursor);
+        List<User> users;
+        if (first) {
+            users = userRepository.findKeysetFirstPage(KeysetCursor.limit(size));
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            users = userRepository.findKeysetPageAfter(after.keyAsDateTime(),
+                    after.getId(), KeysetCursor.limit(size));
+        }
+
+        fetchRoles(users);
+        return KeysetCursor.toResponse(users, size, first, userMapper::toResponseDto,
+                user -> KeysetCursor.encode(user.getCreatedAt(), user.getId()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaginationResponse<UserResponseDto> searchUsers(String query, int page, int size) {
         logger.info("Searching users with query: {} - page: {}, size: {}", query, page, size);
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<User> userPage = userRepository.findByFirstNameContainingIgnoreCaseOrLastNameContainingIgnoreCase(
-                query, query, pageable);
+        Page<User> userPage = userRepository.search(query, PageRequest.of(page, size));
 
         return buildPaginationResponse(userPage);
     }
@@ -125,6 +146,7 @@ public class UserServiceImpl implements UserService {
                     logger.warn("User not found for update with ID: {}", id);
                     return new NotFoundException("User", id);
                 });
+        String previousEmail = user.getEmail();
 
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
             if (userRepository.existsByEmail(request.getEmail())) {
@@ -144,7 +166,6 @@ public class UserServiceImpl implements UserService {
         if (request.getAddress() != null) user.setAddress(request.getAddress());
 
         if (request.getRoles() != null) {
-            roleRepository.deleteByUserId(id);
             final User userForRoles = user;
             List<Role> roles = request.getRoles().stream()
                     .map(roleName -> Role.builder()
@@ -152,11 +173,17 @@ public class UserServiceImpl implements UserService {
                             .user(userForRoles)
                             .build())
                     .collect(Collectors.toList());
-            roleRepository.saveAll(roles);
-            user.setRoles(roles);
+            user.getRoles().clear();
+            user.getRoles().addAll(roles);
         }
 
         User savedUser = userRepository.save(user);
+        if (!previousEmail.equals(savedUser.getEmail()) || request.getRoles() != null) {
+            principalCache.evictAfterCommit(previousEmail);
+        }
+        if (request.getFirstName() != null || request.getLastName() != null) {
+            userSummaryCache.evictAfterCommit(id);
+        }
         logger.info("User updated successfully with ID: {}", id);
         return userMapper.toResponseDto(savedUser);
     }
@@ -165,16 +192,26 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(Long id) {
         logger.info("Deleting user with ID: {}", id);
 
-        if (!userRepository.existsById(id)) {
-            logger.warn("User not found for deletion with ID: {}", id);
-            throw new NotFoundException("User", id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> {
+                    logger.warn("User not found for deletion with ID: {}", id);
+                    return new NotFoundException("User", id);
+                });
 
-        userRepository.deleteById(id);
+        userRepository.delete(user);
+        principalCache.evictAfterCommit(user.getEmail());
+        userSummaryCache.evictAfterCommit(id);
         logger.info("User deleted successfully with ID: {}", id);
     }
 
+    private void fetchRoles(List<User> users) {
+        if (!users.isEmpty()) {
+            userRepository.fetchRolesByIdIn(users.stream().map(User::getId).toList());
+        }
+    }
+
     private PaginationResponse<UserResponseDto> buildPaginationResponse(Page<User> userPage) {
+        fetchRoles(userPage.getContent());
         List<UserResponseDto> content = userPage.getContent().stream()
                 .map(userMapper::toResponseDto)
                 .collect(Collectors.toList());
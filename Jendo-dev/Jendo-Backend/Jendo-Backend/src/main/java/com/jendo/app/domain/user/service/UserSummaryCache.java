@@ -0,0 +1,53 @@
+package com.jendo.app.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.user.repository.UserRepository;
+import com.jendo.app.domain.user.repository.UserSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+@Component
+public class UserSummaryCache {
+
+    private final Cache<Long, UserSummary> summaries;
+    private final UserRepository userRepository;
+
+    public UserSummaryCache(UserRepository userRepository,
+                            @Value("${users.summary-cache.max-size:100000}") long maxSize,
+                            @Value("${users.summary-cache.ttl:10m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.summaries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "userSummaries");
+    }
+
+    public UserSummary get(Long userId) {
+        return summaries.get(userId, id -> userRepository.findSummaryById(id)
+                .orElseThrow(() -> new NotFoundException("User", id)));
+    }
+
+    public void evictAfterCommit(Long userId) {
+        summaries.invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                summaries.invalidate(userId);
+            }
+        });
+    }
+}
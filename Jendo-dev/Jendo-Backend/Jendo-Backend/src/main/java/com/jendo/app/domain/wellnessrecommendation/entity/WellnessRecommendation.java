@@ -15,7 +15,8 @@ import lombok.*;
 public class WellnessRecommendation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "wellness_recommendations_seq")
+    @SequenceGenerator(name = "wellness_recommendations_seq", sequenceName = "wellness_recommendations_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "description")
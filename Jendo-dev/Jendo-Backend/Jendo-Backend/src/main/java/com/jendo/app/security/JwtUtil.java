@@ -1,66 +1,60 @@
 package com.jendo.app.security;
 
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.util.Date;
+import java.util.Optional;
 import java.security.Key;
 
 @Component
 public class JwtUtil {
-    private final String jwtSecret = "asfsdfafdgfjhgkiuoyiutitryerwrzgcbvcnbvoiuytreasdfghjknhtedfvb"; // Use env variable in production
-    private final long jwtExpirationMs = 86400000; // 1 day
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = "com.jendo.app.security.JwtUtil.VERIFIED_TOKEN";
 
-    private Key getSigningKey() {
-        return Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    private static final int MIN_HS512_KEY_BYTES = 64;
+
+    private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpirationMs;
+
+    public JwtUtil(@Value("${jwt.secret}") String jwtSecret,
+                   @Value("${jwt.expiration-ms:86400000}") long jwtExpirationMs) {
+        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
+        if (keyBytes.length < MIN_HS512_KEY_BYTES) {
+            throw new IllegalStateException("jwt.secret must be a base64 encoded key of at least "
+                    + MIN_HS512_KEY_BYTES + " bytes for HS512");
+        }
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.jwtExpirationMs = jwtExpirationMs;
     }
 
     public String generateToken(String email, Long userId) {
+        Date now = new Date();
         return Jwts.builder()
                 .setSubject(email)
                 .claim("userId", userId)
                 .claim("email", email)
-                .setIssuedAt(new Date())
-                .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpirationMs))
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("userId", Long.class);
-    }
-
-    public Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    public boolean validateJwtToken(String authToken) {
+    public Optional<VerifiedToken> parseToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("userId", Long.class),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration() != null ? claims.getExpiration().toInstant() : null));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-}
\ No newline at end of file
+}
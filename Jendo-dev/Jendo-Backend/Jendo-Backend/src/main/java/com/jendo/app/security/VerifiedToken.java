@@ -0,0 +1,13 @@
+package com.jendo.app.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+public class VerifiedToken {
+    String subject;
+    Long userId;
+    Instant issuedAt;
+    Instant expiresAt;
+}
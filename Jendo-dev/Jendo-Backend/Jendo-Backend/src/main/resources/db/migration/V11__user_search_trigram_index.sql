@@ -0,0 +1,2 @@
+create index concurrently if not exists idx_users_search_trgm on users
+    using gin ((lower(first_name || ' ' || last_name || ' ' || email || ' ' || coalesce(phone, ''))) gin_trgm_ops);
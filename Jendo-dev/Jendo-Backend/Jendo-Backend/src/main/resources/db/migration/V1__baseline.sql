@@ -0,0 +1,201 @@
+create table appointments (
+    date date,
+    time time(6),
+    doctor_id bigint,
+    id bigserial not null,
+    user_id bigint not null,
+    status varchar(50),
+    type varchar(50),
+    specialty varchar(100),
+    doctor_name varchar(200),
+    email varchar(255),
+    qualifications varchar(255),
+    primary key (id)
+);
+
+create table consultation_fees (
+    amount numeric(10,2),
+    doctor_id bigint not null,
+    id bigserial not null,
+    currency varchar(10),
+    fee_type varchar(50),
+    primary key (id)
+);
+
+create table doctors (
+    is_available boolean,
+    id bigserial not null,
+    phone varchar(20),
+    specialty varchar(100),
+    hospital varchar(200),
+    name varchar(200) not null,
+    address varchar(255),
+    available_days varchar(255),
+    email varchar(255),
+    image_url varchar(255),
+    qualifications varchar(255),
+    primary key (id)
+);
+
+create table endo_test_reports (
+    created_at timestamp(6),
+    id bigserial not null,
+    jendo_test_id bigint,
+    user_id bigint not null,
+    file_type varchar(50),
+    file_url varchar(255),
+    primary key (id)
+);
+
+create table health_parameters (
+    bmi numeric(5,2),
+    height numeric(5,2),
+    weight numeric(5,2),
+    created_at timestamp(6),
+    id bigserial not null,
+    updated_at timestamp(6),
+    user_id bigint not null,
+    blood_type varchar(10),
+    primary key (id)
+);
+
+create table jendo_tests (
+    heart_rate integer,
+    score numeric(38,2),
+    test_date date,
+    test_time time(6),
+    created_at timestamp(6),
+    created_by bigint,
+    id bigserial not null,
+    user_id bigint not null,
+    blood_pressure varchar(20),
+    risk_level varchar(50),
+    primary key (id)
+);
+
+create table learning_materials (
+    created_at timestamp(6),
+    id bigserial not null,
+    duration varchar(50),
+    type varchar(50),
+    category varchar(100),
+    author varchar(200),
+    title varchar(200) not null,
+    description varchar(255),
+    video_url varchar(255),
+    primary key (id)
+);
+
+create table notifications (
+    is_read boolean,
+    created_at timestamp(6),
+    id bigserial not null,
+    user_id bigint not null,
+    type varchar(50),
+    message varchar(255) not null,
+    primary key (id)
+);
+
+create table otp_tokens (
+    expires_at timestamp(6),
+    id bigserial not null,
+    email varchar(255),
+    otp varchar(255),
+    primary key (id)
+);
+
+create table report_attachments (
+    id bigserial not null,
+    report_item_value_id bigint not null,
+    uploaded_at timestamp(6),
+    file_type varchar(50),
+    file_url varchar(255),
+    primary key (id)
+);
+
+create table report_categories (
+    created_at timestamp(6),
+    id bigserial not null,
+    last_updated timestamp(6),
+    icon varchar(100),
+    name varchar(200) not null,
+    primary key (id)
+);
+
+create table report_item_values (
+    value_date date,
+    value_number numeric(10,2),
+    id bigserial not null,
+    report_item_id bigint not null,
+    value_text varchar(255),
+    primary key (id)
+);
+
+create table report_items (
+    id bigserial not null,
+    jendo_test_id bigint,
+    report_section_id bigint,
+    icon varchar(100),
+    name varchar(200) not null,
+    description varchar(255),
+    primary key (id)
+);
+
+create table report_sections (
+    id bigserial not null,
+    icon varchar(100),
+    name varchar(200) not null,
+    description varchar(255),
+    primary key (id)
+);
+
+create table roles (
+    id bigserial not null,
+    user_id bigint not null,
+    role_name varchar(50) not null,
+    primary key (id)
+);
+
+create table users (
+    date_of_birth date,
+    created_at timestamp(6),
+    created_by bigint,
+    id bigserial not null,
+    updated_at timestamp(6),
+    gender varchar(20),
+    phone varchar(20),
+    first_name varchar(100) not null,
+    last_name varchar(100) not null,
+    nationality varchar(100),
+    address varchar(255),
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    profile_image varchar(255),
+    primary key (id)
+);
+
+create table wellness_recommendations (
+    appointment_id bigint,
+    id bigserial not null,
+    risk_level varchar(50),
+    type varchar(50),
+    category varchar(100),
+    title varchar(200),
+    description varchar(255),
+    primary key (id)
+);
+
+alter table appointments add constraint FKmujeo4tymoo98cmf7uj3vsv76 foreign key (doctor_id) references doctors;
+alter table appointments add constraint FK886ced1atxgvnf1o3oxtj5m4s foreign key (user_id) references users;
+alter table consultation_fees add constraint FKq5tdhh94lguw3kmk8fr5gnjqv foreign key (doctor_id) references doctors;
+alter table endo_test_reports add constraint FK6kke6jy3fbvv7w0s2kpswdqbd foreign key (jendo_test_id) references jendo_tests;
+alter table endo_test_reports add constraint FKkh2ie5o72c8s29ajmsle7ek98 foreign key (user_id) references users;
+alter table health_parameters add constraint FKi3vdwdgit6idi4igrlm2g9sq8 foreign key (user_id) references users;
+alter table jendo_tests add constraint FK5dd9h7hf9lq666bw0fe1kebge foreign key (user_id) references users;
+alter table notifications add constraint FK9y21adhxn0ayjhfocscqox7bh foreign key (user_id) references users;
+alter table report_attachments add constraint FK454vh6uv7vriwlveept53jr4o foreign key (report_item_value_id) references report_item_values;
+alter table report_item_values add constraint FKdyq45gxdpib2n4jpgdlck8p60 foreign key (report_item_id) references report_items;
+alter table report_items add constraint FK3xgnjry0rm9wxtdmrad54cukh foreign key (jendo_test_id) references jendo_tests;
+alter table report_items add constraint FK13ua2j3y3vuiccoi7qsr394xa foreign key (report_section_id) references report_sections;
+alter table roles add constraint FK97mxvrajhkq19dmvboprimeg1 foreign key (user_id) references users;
+alter table wellness_recommendations add constraint FKro5b7stkcek2jsrnf8ewrohxr foreign key (appointment_id) references appointments;
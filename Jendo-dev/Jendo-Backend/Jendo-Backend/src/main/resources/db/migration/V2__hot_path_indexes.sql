@@ -0,0 +1,9 @@
+create index concurrently if not exists idx_jendo_tests_user_id_test_date on jendo_tests (user_id, test_date);
+
+create index concurrently if not exists idx_appointments_doctor_id_date on appointments (doctor_id, date);
+
+create index concurrently if not exists idx_notifications_user_id_is_read_created_at on notifications (user_id, is_read, created_at);
+
+create index concurrently if not exists idx_health_parameters_user_id_created_at on health_parameters (user_id, created_at);
+
+create index concurrently if not exists idx_otp_tokens_email_otp on otp_tokens (email, otp);
@@ -0,0 +1,3 @@
+create unique index concurrently if not exists ux_appointments_doctor_slot
+    on appointments (doctor_id, date, time)
+    where doctor_id is not null and (status is null or upper(status) <> 'CANCELLED');
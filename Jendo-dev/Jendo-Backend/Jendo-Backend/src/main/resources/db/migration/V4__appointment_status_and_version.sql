@@ -0,0 +1,13 @@
+update appointments
+set status = case
+        when upper(trim(status)) in ('SCHEDULED', 'CONFIRMED', 'COMPLETED', 'CANCELLED') then upper(trim(status))
+        when upper(trim(status)) = 'CANCELED' then 'CANCELLED'
+        else 'SCHEDULED'
+    end
+where status is null or status not in ('SCHEDULED', 'CONFIRMED', 'COMPLETED', 'CANCELLED');
+
+alter table appointments alter column status set not null;
+alter table appointments add constraint ck_appointments_status
+    check (status in ('SCHEDULED', 'CONFIRMED', 'COMPLETED', 'CANCELLED'));
+
+alter table appointments add column version bigint not null default 0;
@@ -0,0 +1,50 @@
+create table jendo_test_rollups (
+    id bigserial not null,
+    user_id bigint not null,
+    resolution varchar(10) not null,
+    bucket_start date not null,
+    test_count bigint not null,
+    score_count bigint not null,
+    score_sum numeric(38,2),
+    score_min numeric(38,2),
+    score_max numeric(38,2),
+    heart_rate_count bigint not null,
+    heart_rate_sum bigint,
+    heart_rate_min integer,
+    heart_rate_max integer,
+    low_risk_count bigint not null,
+    moderate_risk_count bigint not null,
+    high_risk_count bigint not null,
+    primary key (id),
+    constraint ux_jendo_test_rollups_bucket unique (user_id, resolution, bucket_start)
+);
+
+alter table jendo_test_rollups add constraint fk_jendo_test_rollups_user
+    foreign key (user_id) references users on delete cascade;
+
+insert into jendo_test_rollups (user_id, resolution, bucket_start, test_count, score_count, score_sum, score_min,
+                                score_max, heart_rate_count, heart_rate_sum, heart_rate_min, heart_rate_max,
+                                low_risk_count, moderate_risk_count, high_risk_count)
+select t.user_id,
+       r.resolution,
+       case r.resolution
+           when 'DAILY' then t.test_date
+           when 'WEEKLY' then cast(date_trunc('week', t.test_date) as date)
+           else cast(date_trunc('month', t.test_date) as date)
+       end,
+       count(*),
+       count(t.score),
+       sum(t.score),
+       min(t.score),
+       max(t.score),
+       count(t.heart_rate),
+       sum(t.heart_rate),
+       min(t.heart_rate),
+       max(t.heart_rate),
+       count(*) filter (where lower(t.risk_level) = 'low'),
+       count(*) filter (where lower(t.risk_level) in ('moderate', 'medium')),
+       count(*) filter (where lower(t.risk_level) = 'high')
+from jendo_tests t
+cross join (values ('DAILY'), ('WEEKLY'), ('MONTHLY')) as r (resolution)
+where t.test_date is not null
+group by t.user_id, r.resolution, 3;
@@ -0,0 +1,7 @@
+alter table jendo_tests add column systolic integer;
+alter table jendo_tests add column diastolic integer;
+
+update jendo_tests
+set systolic = cast(substring(blood_pressure from '^\s*(\d{2,3})\s*/\s*\d{2,3}') as integer),
+    diastolic = cast(substring(blood_pressure from '^\s*\d{2,3}\s*/\s*(\d{2,3})') as integer)
+where blood_pressure ~ '^\s*\d{2,3}\s*/\s*\d{2,3}';
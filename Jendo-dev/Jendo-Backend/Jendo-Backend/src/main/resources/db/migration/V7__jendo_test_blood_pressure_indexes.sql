@@ -0,0 +1,3 @@
+create index concurrently if not exists idx_jendo_tests_systolic_test_date on jendo_tests (systolic, test_date);
+
+create index concurrently if not exists idx_jendo_tests_diastolic_test_date on jendo_tests (diastolic, test_date);
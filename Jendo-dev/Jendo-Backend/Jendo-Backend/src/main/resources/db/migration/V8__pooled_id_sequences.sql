@@ -0,0 +1,3 @@
+alter sequence jendo_tests_id_seq increment by 50;
+alter sequence health_parameters_id_seq increment by 50;
+alter sequence jendo_test_rollups_id_seq increment by 50;
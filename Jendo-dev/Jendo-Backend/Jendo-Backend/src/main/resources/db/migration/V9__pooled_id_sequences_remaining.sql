@@ -0,0 +1,15 @@
+alter sequence appointments_id_seq increment by 50;
+alter sequence consultation_fees_id_seq increment by 50;
+alter sequence doctors_id_seq increment by 50;
+alter sequence endo_test_reports_id_seq increment by 50;
+alter sequence learning_materials_id_seq increment by 50;
+alter sequence notifications_id_seq increment by 50;
+alter sequence otp_tokens_id_seq increment by 50;
+alter sequence report_attachments_id_seq increment by 50;
+alter sequence report_categories_id_seq increment by 50;
+alter sequence report_item_values_id_seq increment by 50;
+alter sequence report_items_id_seq increment by 50;
+alter sequence report_sections_id_seq increment by 50;
+alter sequence roles_id_seq increment by 50;
+alter sequence users_id_seq increment by 50;
+alter sequence wellness_recommendations_id_seq increment by 50;
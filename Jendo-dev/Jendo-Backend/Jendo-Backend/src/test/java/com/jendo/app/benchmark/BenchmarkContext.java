@@ -0,0 +1,36 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.Application;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.com.jendo.app=WARN",
+                "--logging.level.org.hibernate.SQL=WARN"));
+        String postgresUrl = System.getenv("BENCHMARK_DB_URL");
+        if (postgresUrl != null && !postgresUrl.isBlank()) {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=" + postgresUrl,
+                    "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                    "--spring.datasource.username=" + Objects.requireNonNullElse(System.getenv("BENCHMARK_DB_USERNAME"), "postgres"),
+                    "--spring.datasource.password=" + Objects.requireNonNullElse(System.getenv("BENCHMARK_DB_PASSWORD"), ""),
+                    "--spring.flyway.enabled=true",
+                    "--spring.jpa.hibernate.ddl-auto=validate",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"));
+        }
+        return new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .run(arguments.toArray(String[]::new));
+    }
+}
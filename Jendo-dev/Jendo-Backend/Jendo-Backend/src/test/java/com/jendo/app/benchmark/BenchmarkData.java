@@ -0,0 +1,29 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.user.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        return User.builder()
+                .id(id)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe" + id + "@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .phone("+1234567890")
+                .dateOfBirth(LocalDate.of(1990, 1, 15))
+                .gender("Male")
+                .nationality("American")
+                .address("123 Main St, City, Country")
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .updatedAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+    }
+}
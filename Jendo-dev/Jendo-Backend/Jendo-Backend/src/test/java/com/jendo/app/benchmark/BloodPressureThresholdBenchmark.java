@@ -0,0 +1,112 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.jendotest.service.BloodPressure;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BloodPressureThresholdBenchmark {
+
+    private static final int SYSTOLIC_ABOVE = 140;
+    private static final int LOOKBACK_DAYS = 90;
+
+    @Param("200")
+    public int users;
+
+    @Param("100")
+    public int testsPerUser;
+
+    private ConfigurableApplicationContext context;
+    private JendoTestRepository jendoTestRepository;
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private LocalDate since;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        jendoTestRepository = context.getBean(JendoTestRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.setReadOnly(true);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        since = today.minusDays(LOOKBACK_DAYS);
+        List<Object[]> rows = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            User user = BenchmarkData.user(u);
+            user.setId(null);
+            userId = userRepository.save(user).getId();
+            for (int i = 0; i < testsPerUser; i++) {
+                int systolic = 100 + random.nextInt(70);
+                int diastolic = 60 + random.nextInt(45);
+                rows.add(new Object[]{userId, Date.valueOf(today.minusDays(random.nextInt(730))),
+                        systolic + "/" + diastolic, systolic, diastolic});
+            }
+        }
+        jdbcTemplate.batchUpdate("insert into jendo_tests (id, user_id, test_date, blood_pressure, systolic, diastolic) "
+                + "values (nextval('jendo_tests_id_seq'), ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer populationSqlThreshold() {
+        return transactionTemplate.execute(status -> jendoTestRepository
+                .findElevatedBloodPressure(since, SYSTOLIC_ABOVE, Integer.MAX_VALUE, Pageable.unpaged())
+                .getNumberOfElements());
+    }
+
+    @Benchmark
+    public Integer populationLoadThenFilter() {
+        return transactionTemplate.execute(status -> (int) jendoTestRepository.findAll().stream()
+                .filter(test -> test.getTestDate() != null && !test.getTestDate().isBefore(since))
+                .filter(BloodPressureThresholdBenchmark::isElevated)
+                .count());
+    }
+
+    @Benchmark
+    public Integer userSqlThreshold() {
+        return transactionTemplate.execute(status -> jendoTestRepository
+                .findElevatedBloodPressureByUserId(userId, since, SYSTOLIC_ABOVE, Integer.MAX_VALUE, Pageable.unpaged())
+                .getNumberOfElements());
+    }
+
+    @Benchmark
+    public Integer userLoadThenFilter() {
+        return transactionTemplate.execute(status -> (int) jendoTestRepository
+                .findByUserIdAndTestDateBetween(userId, since, LocalDate.now()).stream()
+                .filter(BloodPressureThresholdBenchmark::isElevated)
+                .count());
+    }
+
+    private static boolean isElevated(JendoTest test) {
+        BloodPressure reading = BloodPressure.parse(test.getBloodPressure());
+        return reading != null && reading.systolic() > SYSTOLIC_ABOVE;
+    }
+}
@@ -0,0 +1,119 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.healthrecord.service.HealthRecordFormat;
+import com.jendo.app.domain.healthrecord.service.HealthRecordImportService;
+import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
+import com.jendo.app.domain.jendotest.service.JendoTestService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(BulkImportBenchmark.ROWS)
+public class BulkImportBenchmark {
+
+    static final int ROWS = 10_000;
+    private static final AtomicLong PATIENTS = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    @Param("20")
+    public int users;
+
+    private ConfigurableApplicationContext context;
+    private HealthRecordImportService healthRecordImportService;
+    private JendoTestService jendoTestService;
+    private UserRepository userRepository;
+    private List<JendoTestRequestDto> requests;
+    private byte[] ndjson;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        healthRecordImportService = context.getBean(HealthRecordImportService.class);
+        jendoTestService = context.getBean(JendoTestService.class);
+        userRepository = context.getBean(UserRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void newPatients() {
+        List<Long> userIds = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            User user = BenchmarkData.user(u);
+            user.setId(null);
+            user.setEmail("import." + PATIENTS.incrementAndGet() + "@example.com");
+            userIds.add(userRepository.save(user).getId());
+        }
+
+        Random random = new Random(42);
+        requests = new ArrayList<>(ROWS);
+        StringBuilder ndjsonRows = new StringBuilder();
+        StringBuilder csvRows = new StringBuilder("type,userId,score,heartRate,riskLevel,bloodPressure,testDate\n");
+        for (int i = 0; i < ROWS; i++) {
+            Long userId = userIds.get(i * users / ROWS);
+            JendoTestRequestDto request = JendoTestRequestDto.builder()
+                    .userId(userId)
+                    .score(BigDecimal.valueOf(40 + random.nextInt(60)))
+                    .heartRate(55 + random.nextInt(50))
+                    .riskLevel(random.nextBoolean() ? "low" : "high")
+                    .bloodPressure((100 + random.nextInt(70)) + "/" + (60 + random.nextInt(45)))
+                    .testDate(LocalDate.of(2015, 1, 1).plusDays(i % (ROWS / users)))
+                    .build();
+            requests.add(request);
+            ndjsonRows.append("{\"type\":\"jendoTest\",\"record\":{\"userId\":").append(userId)
+                    .append(",\"score\":").append(request.getScore())
+                    .append(",\"heartRate\":").append(request.getHeartRate())
+                    .append(",\"riskLevel\":\"").append(request.getRiskLevel())
+                    .append("\",\"bloodPressure\":\"").append(request.getBloodPressure())
+                    .append("\",\"testDate\":\"").append(request.getTestDate()).append("\"}}\n");
+            csvRows.append("jendoTest,").append(userId).append(',').append(request.getScore()).append(',')
+                    .append(request.getHeartRate()).append(',').append(request.getRiskLevel()).append(',')
+                    .append(request.getBloodPressure()).append(',').append(request.getTestDate()).append('\n');
+        }
+        ndjson = ndjsonRows.toString().getBytes(StandardCharsets.UTF_8);
+        csv = csvRows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long bulkImportNdjson() throws IOException {
+        return healthRecordImportService.importHealthRecords(new ByteArrayInputStream(ndjson), HealthRecordFormat.NDJSON)
+                .getImported();
+    }
+
+    @Benchmark
+    public long bulkImportCsv() throws IOException {
+        return healthRecordImportService.importHealthRecords(new ByteArrayInputStream(csv), HealthRecordFormat.CSV)
+                .getImported();
+    }
+
+    @Benchmark
+    public long createTestPerRow() {
+        long imported = 0;
+        for (JendoTestRequestDto request : requests) {
+            jendoTestService.createTest(request);
+            imported++;
+        }
+        return imported;
+    }
+}
@@ -0,0 +1,86 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.doctor.repository.DoctorRepository;
+import com.jendo.app.domain.doctor.service.DoctorService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DoctorAutocompleteBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Nimal", "Amaya", "Kasun", "Dilani", "Ruwan", "Sanduni", "Tharindu",
+            "Ishara", "Chamari", "Lahiru", "Nadeesha", "Supun", "Hiruni", "Pradeep", "Ayesha", "Mahesh"};
+    private static final String[] SYLLABLES = {"per", "ara", "sin", "gha", "fer", "nan", "do", "wick", "kum", "sil",
+            "va", "jaya", "wardena", "band", "dias", "gun", "ase", "kara", "rat", "ne"};
+    private static final String[] SPECIALTIES = {"Cardiology", "Dermatology", "Endocrinology", "Gastroenterology",
+            "Neurology", "Oncology", "Paediatrics", "Psychiatry", "Radiology", "Rheumatology"};
+    private static final String[] TOWNS = {"Colombo", "Kandy", "Galle", "Jaffna", "Matara", "Kurunegala",
+            "Anuradhapura", "Badulla"};
+    private static final int LIMIT = 10;
+
+    @Param("10000")
+    public int doctors;
+
+    @Param({"ka", "nimal wick", "cardiolgy"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private DoctorService doctorService;
+    private DoctorRepository doctorRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        doctorService = context.getBean(DoctorService.class);
+        doctorRepository = context.getBean(DoctorRepository.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        Integer seeded = jdbcTemplate.queryForObject("select count(*) from doctors where email like 'directory.%'",
+                Integer.class);
+        Random random = new Random(seeded);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = seeded; i < doctors; i++) {
+            String name = "Dr. " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + Character.toUpperCase(SYLLABLES[random.nextInt(SYLLABLES.length)].charAt(0))
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)].substring(1)
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)];
+            String town = TOWNS[random.nextInt(TOWNS.length)];
+            rows.add(new Object[]{name, SPECIALTIES[random.nextInt(SPECIALTIES.length)], town + " General Hospital",
+                    "directory." + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("insert into doctors (id, name, specialty, hospital, email, is_available) "
+                + "values (nextval('doctors_id_seq'), ?, ?, ?, ?, true)", rows);
+        doctorService.autocompleteDoctors(query, LIMIT);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DoctorSuggestionDto> autocomplete() {
+        return doctorService.autocompleteDoctors(query, LIMIT);
+    }
+
+    @Benchmark
+    public List<Doctor> legacyNameContains() {
+        return doctorRepository.findByNameContainingIgnoreCase(query, PageRequest.of(0, LIMIT, Sort.by("name")))
+                .getContent();
+    }
+}
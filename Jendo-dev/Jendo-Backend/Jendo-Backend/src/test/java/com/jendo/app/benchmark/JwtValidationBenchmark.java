@@ -0,0 +1,57 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.security.JwtUtil;
+import com.jendo.app.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    static final String SECRET =
+            "0ix6iQDKOHoq/bI+82NBQmbPv3TfRDFD4aKhS/n9UnSTy4j1pAbJ1qUDZMZN5ALBjQ5ta2GIKVS9vYC1d82feA==";
+
+    private byte[] secretBytes;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretBytes = Decoders.BASE64.decode(SECRET);
+        jwtUtil = new JwtUtil(SECRET, 86400000L);
+        token = jwtUtil.generateToken("bench@jendo.com", 42L);
+    }
+
+    // Previous filter path: parse for the subject, then parse again to validate, each building a key and parser.
+    @Benchmark
+    public boolean legacyParsePerCall() {
+        String email = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secretBytes))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(secretBytes))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return email != null && claims != null;
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> singleParse() {
+        return jwtUtil.parseToken(token);
+    }
+}
@@ -0,0 +1,72 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
+import com.jendo.app.domain.appointment.mapper.AppointmentMapper;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.user.dto.UserResponseDto;
+import com.jendo.app.domain.user.entity.Role;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+
+    private User user;
+    private Appointment appointment;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.user(1L);
+        List<Role> roles = new ArrayList<>();
+        for (String roleName : List.of("USER", "PATIENT", "ADMIN")) {
+            roles.add(Role.builder().id((long) roles.size() + 1).roleName(roleName).user(user).build());
+        }
+        user.setRoles(roles);
+
+        Doctor doctor = Doctor.builder()
+                .id(1L)
+                .name("Dr. Jane Smith")
+                .specialty("Cardiology")
+                .build();
+        appointment = Appointment.builder()
+                .id(1L)
+                .user(user)
+                .doctor(doctor)
+                .doctorName(doctor.getName())
+                .email(user.getEmail())
+                .date(LocalDate.of(2024, 1, 20))
+                .time(LocalTime.of(10, 30))
+                .specialty("Cardiology")
+                .qualifications("MD")
+                .type("IN_PERSON")
+                .status(AppointmentStatus.SCHEDULED)
+                .build();
+    }
+
+    @Benchmark
+    public UserResponseDto userToResponseDto() {
+        return userMapper.toResponseDto(user);
+    }
+
+    @Benchmark
+    public AppointmentResponseDto appointmentToResponseDto() {
+        return appointmentMapper.toResponseDto(appointment);
+    }
+}
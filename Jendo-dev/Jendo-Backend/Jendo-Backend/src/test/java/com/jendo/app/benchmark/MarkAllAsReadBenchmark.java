@@ -0,0 +1,83 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.notification.entity.Notification;
+import com.jendo.app.domain.notification.repository.NotificationRepository;
+import com.jendo.app.domain.notification.service.NotificationService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkAllAsReadBenchmark {
+
+    @Param("10000")
+    public int unreadRows;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private NotificationRepository notificationRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        notificationService = context.getBean(NotificationService.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        User user = BenchmarkData.user(1L);
+        user.setId(null);
+        userId = context.getBean(UserRepository.class).save(user).getId();
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 10, 30));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < unreadRows; i++) {
+            rows.add(new Object[]{"System notice " + i, "SYSTEM", false, createdAt, userId});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into notifications (id, message, type, is_read, created_at, user_id) "
+                        + "values (nextval('notifications_id_seq'), ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Setup(Level.Invocation)
+    public void markAllUnread() {
+        jdbcTemplate.update("update notifications set is_read = false where user_id = ?", userId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int bulkUpdate() {
+        return notificationService.markAllAsRead(userId);
+    }
+
+    @Benchmark
+    public Integer loadAndSaveAll() {
+        return transactionTemplate.execute(status -> {
+            List<Notification> notifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
+            notifications.forEach(notification -> notification.setIsRead(true));
+            notificationRepository.saveAll(notifications);
+            return notifications.size();
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.jendo.app.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jendo.app.common.dto.ApiResponse;
+import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.config.ObjectMapperConfig;
+import com.jendo.app.domain.user.dto.UserResponseDto;
+import com.jendo.app.domain.user.mapper.UserMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationSerializationBenchmark {
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PaginationResponse<UserResponseDto>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapperConfig().objectMapper();
+
+        UserMapper userMapper = new UserMapper();
+        List<UserResponseDto> content = new ArrayList<>();
+        for (long i = 1; i <= pageSize; i++) {
+            content.add(userMapper.toResponseDto(BenchmarkData.user(i)));
+        }
+        response = ApiResponse.success(PaginationResponse.<UserResponseDto>builder()
+                .content(content)
+                .pageNumber(0)
+                .pageSize(pageSize)
+                .totalElements(1000L)
+                .totalPages(1000 / pageSize)
+                .first(true)
+                .last(false)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serializeUserPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
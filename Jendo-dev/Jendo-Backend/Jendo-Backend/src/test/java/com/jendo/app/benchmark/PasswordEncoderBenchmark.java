@@ -0,0 +1,34 @@
+package com.jendo.app.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder();
+        encodedPassword = passwordEncoder.encode("securePassword123");
+    }
+
+    @Benchmark
+    public boolean loginMatches() {
+        return passwordEncoder.matches("securePassword123", encodedPassword);
+    }
+
+    @Benchmark
+    public String signupEncode() {
+        return passwordEncoder.encode("securePassword123");
+    }
+}
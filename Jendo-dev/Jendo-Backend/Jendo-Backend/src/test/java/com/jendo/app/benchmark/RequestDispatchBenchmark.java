@@ -0,0 +1,81 @@
+package com.jendo.app.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.GlobalExceptionHandler;
+import com.jendo.app.config.ObjectMapperConfig;
+import com.jendo.app.controller.DoctorController;
+import com.jendo.app.domain.appointment.service.SlotAvailabilityService;
+import com.jendo.app.domain.doctor.dto.DoctorResponseDto;
+import com.jendo.app.domain.doctor.service.DoctorService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestDispatchBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        DoctorService doctorService = mock(DoctorService.class);
+
+        List<DoctorResponseDto> doctors = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            doctors.add(DoctorResponseDto.builder()
+                    .id(i)
+                    .name("Dr. Jane Smith " + i)
+                    .specialty("Cardiology")
+                    .hospital("City General Hospital")
+                    .isAvailable(true)
+                    .availableDays("Monday, Wednesday, Friday")
+                    .consultationFees(Collections.emptyList())
+                    .build());
+        }
+        when(doctorService.getDoctorById(anyLong())).thenReturn(doctors.get(0));
+        when(doctorService.getAllDoctors(anyInt(), anyInt())).thenReturn(PaginationResponse.<DoctorResponseDto>builder()
+                .content(doctors)
+                .pageNumber(0)
+                .pageSize(10)
+                .totalElements(10L)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .build());
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new DoctorController(doctorService, mock(SlotAvailabilityService.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult getDoctorById() throws Exception {
+        return mockMvc.perform(get("/api/doctors/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getDoctorPage() throws Exception {
+        return mockMvc.perform(get("/api/doctors").param("page", "0").param("size", "10")).andReturn();
+    }
+}
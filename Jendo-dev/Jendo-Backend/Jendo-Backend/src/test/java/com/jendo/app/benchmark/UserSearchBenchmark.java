@@ -0,0 +1,97 @@
+package com.jendo.app.benchmark;
+
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Jane", "John", "Nimal", "Amaya", "Kasun", "Dilani", "Ruwan",
+            "Sanduni", "Tharindu", "Ishara", "Chamari", "Lahiru", "Nadeesha", "Supun", "Hiruni", "Pradeep", "Ayesha",
+            "Dinesh", "Kavindi", "Mahesh"};
+    private static final String[] SYLLABLES = {"per", "ara", "sin", "gha", "fer", "nan", "do", "wick", "kum", "sil",
+            "va", "jaya", "wardena", "band", "dias", "gun", "ase", "kara", "rat", "ne"};
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Param("1000000")
+    public int users;
+
+    @Param({"nimal perara", "wardena", "0771234"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        userRepository = context.getBean(UserRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.setReadOnly(true);
+
+        Integer seeded = jdbcTemplate.queryForObject("select count(*) from users where email like 'search.%'", Integer.class);
+        Random random = new Random(seeded);
+        LocalDateTime createdAt = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(INSERT_CHUNK);
+        for (int i = seeded; i < users; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = capitalize(SYLLABLES[random.nextInt(SYLLABLES.length)]
+                    + SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            rows.add(new Object[]{firstName, lastName,
+                    "search." + i + "." + firstName.toLowerCase(Locale.ROOT) + "@example.com",
+                    "$2a$10$abcdefghijklmnopqrstuv", String.format("+94%09d", random.nextInt(1_000_000_000)),
+                    Timestamp.valueOf(createdAt.plusMinutes(i))});
+            if (rows.size() == INSERT_CHUNK || i == users - 1) {
+                jdbcTemplate.batchUpdate("insert into users (id, first_name, last_name, email, password, phone, created_at) "
+                        + "values (nextval('users_id_seq'), ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long search() {
+        return transactionTemplate.execute(status -> userRepository.search(query, PageRequest.of(0, PAGE_SIZE))
+                .getTotalElements());
+    }
+
+    @Benchmark
+    public Long legacyContains() {
+        String pattern = "%" + query.toLowerCase(Locale.ROOT) + "%";
+        jdbcTemplate.queryForList("select * from users where lower(first_name) like ? or lower(last_name) like ? "
+                + "order by created_at desc limit " + PAGE_SIZE, pattern, pattern);
+        return jdbcTemplate.queryForObject("select count(*) from users where lower(first_name) like ? "
+                + "or lower(last_name) like ?", Long.class, pattern, pattern);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
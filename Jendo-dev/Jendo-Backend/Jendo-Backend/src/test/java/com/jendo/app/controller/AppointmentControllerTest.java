@@ -5,10 +5,12 @@ import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.appointment.dto.AppointmentRequestDto;
 import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
 import com.jendo.app.domain.appointment.service.AppointmentService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -25,11 +27,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(AppointmentController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class AppointmentControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -113,7 +119,7 @@ class AppointmentControllerTest {
                 .content(List.of(appointmentResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
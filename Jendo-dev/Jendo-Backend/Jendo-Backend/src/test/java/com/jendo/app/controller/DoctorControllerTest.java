@@ -2,18 +2,26 @@ package com.jendo.app.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.appointment.dto.DayAvailabilityDto;
+import com.jendo.app.domain.appointment.dto.SlotOfferDto;
+import com.jendo.app.domain.appointment.service.SlotAvailabilityService;
 import com.jendo.app.domain.doctor.dto.DoctorRequestDto;
 import com.jendo.app.domain.doctor.dto.DoctorResponseDto;
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
 import com.jendo.app.domain.doctor.service.DoctorService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -24,17 +32,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(DoctorController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class DoctorControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockBean
     private DoctorService doctorService;
 
+    @MockBean
+    private SlotAvailabilityService slotAvailabilityService;
+
     private DoctorRequestDto doctorRequest;
     private DoctorResponseDto doctorResponse;
 
@@ -105,6 +120,53 @@ class DoctorControllerTest {
         verify(doctorService, times(1)).getDoctorById(1L);
     }
 
+    @Test
+    @DisplayName("Get doctor availability - Success")
+    void getAvailability_Success() throws Exception {
+        DayAvailabilityDto day = DayAvailabilityDto.builder()
+                .date(LocalDate.of(2024, 1, 22))
+                .freeSlots(List.of(LocalTime.of(9, 0), LocalTime.of(9, 30)))
+                .build();
+        when(slotAvailabilityService.getAvailability(1L, LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 26)))
+                .thenReturn(List.of(day));
+
+        mockMvc.perform(get("/api/doctors/1/availability")
+                        .param("from", "2024-01-22")
+                        .param("to", "2024-01-26"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].date").value("2024-01-22"))
+                .andExpect(jsonPath("$.data[0].freeSlots.length()").value(2));
+
+        verify(slotAvailabilityService, times(1))
+                .getAvailability(1L, LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 26));
+    }
+
+    @Test
+    @DisplayName("Find earliest slots by specialty - Success")
+    void findEarliestSlots_Success() throws Exception {
+        SlotOfferDto offer = SlotOfferDto.builder()
+                .doctorId(1L)
+                .doctorName("Dr. Jane Smith")
+                .date(LocalDate.of(2024, 1, 22))
+                .time(LocalTime.of(9, 0))
+                .build();
+        when(slotAvailabilityService.findEarliestSlots("Cardiology", LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 26), 5))
+                .thenReturn(List.of(offer));
+
+        mockMvc.perform(get("/api/doctors/specialty/Cardiology/slots")
+                        .param("from", "2024-01-22")
+                        .param("to", "2024-01-26")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].doctorId").value(1))
+                .andExpect(jsonPath("$.data[0].time").value("09:00:00"));
+
+        verify(slotAvailabilityService, times(1))
+                .findEarliestSlots("Cardiology", LocalDate.of(2024, 1, 22), LocalDate.of(2024, 1, 26), 5);
+    }
+
     @Test
     @DisplayName("Get all doctors - Success")
     void getAllDoctors_Success() throws Exception {
@@ -112,7 +174,7 @@ class DoctorControllerTest {
                 .content(List.of(doctorResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -143,6 +205,29 @@ class DoctorControllerTest {
         verify(doctorService, times(1)).getAvailableDoctors();
     }
 
+    @Test
+    @DisplayName("Autocomplete doctors - Success")
+    void autocompleteDoctors_Success() throws Exception {
+        DoctorSuggestionDto suggestion = DoctorSuggestionDto.builder()
+                .id(1L)
+                .name("Dr. Jane Smith")
+                .specialty("Cardiology")
+                .hospital("City General Hospital")
+                .isAvailable(true)
+                .build();
+        when(doctorService.autocompleteDoctors("jan", 5)).thenReturn(List.of(suggestion));
+
+        mockMvc.perform(get("/api/doctors/autocomplete")
+                        .param("query", "jan")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].name").value("Dr. Jane Smith"))
+                .andExpect(jsonPath("$.data[0].specialty").value("Cardiology"));
+
+        verify(doctorService, times(1)).autocompleteDoctors("jan", 5);
+    }
+
     @Test
     @DisplayName("Update doctor - Success")
     void updateDoctor_Success() throws Exception {
@@ -5,10 +5,12 @@ import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.healthparameter.dto.HealthParameterRequestDto;
 import com.jendo.app.domain.healthparameter.dto.HealthParameterResponseDto;
 import com.jendo.app.domain.healthparameter.service.HealthParameterService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -26,11 +28,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(HealthParameterController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class HealthParameterControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -111,7 +117,7 @@ class HealthParameterControllerTest {
                 .content(params)
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -2,13 +2,20 @@ package com.jendo.app.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.jendotest.dto.CohortAnalyticsDto;
+import com.jendo.app.domain.jendotest.dto.HeartRateBucketDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
 import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
+import com.jendo.app.domain.jendotest.dto.PopulationAnalyticsDto;
+import com.jendo.app.domain.jendotest.service.JendoTestAnalyticsService;
 import com.jendo.app.domain.jendotest.service.JendoTestService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -19,6 +26,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,17 +35,24 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(JendoTestController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class JendoTestControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockBean
     private JendoTestService jendoTestService;
 
+    @MockBean
+    private JendoTestAnalyticsService jendoTestAnalyticsService;
+
     private JendoTestRequestDto testRequest;
     private JendoTestResponseDto testResponse;
 
@@ -114,7 +129,7 @@ class JendoTestControllerTest {
                 .content(List.of(testResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -139,7 +154,7 @@ class JendoTestControllerTest {
                 .content(List.of(testResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -156,6 +171,83 @@ class JendoTestControllerTest {
         verify(jendoTestService, times(1)).getTestsByUserId(1L, 0, 10);
     }
 
+    @Test
+    @DisplayName("Get test trend - Success")
+    void getTrend_Success() throws Exception {
+        JendoTestTrendDto week = JendoTestTrendDto.builder()
+                .bucketStart(LocalDate.of(2024, 1, 15))
+                .bucketEnd(LocalDate.of(2024, 1, 21))
+                .testCount(2)
+                .averageScore(new BigDecimal("80.25"))
+                .lowRiskCount(2)
+                .build();
+        when(jendoTestService.getTrend(1L, "weekly", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)))
+                .thenReturn(List.of(week));
+
+        mockMvc.perform(get("/api/jendo-tests/user/1/trend")
+                        .param("resolution", "weekly")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].testCount").value(2))
+                .andExpect(jsonPath("$.data[0].averageScore").value(80.25));
+
+        verify(jendoTestService, times(1)).getTrend(1L, "weekly", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    @DisplayName("Get population analytics - Success")
+    void getPopulationAnalytics_Success() throws Exception {
+        CohortAnalyticsDto female = CohortAnalyticsDto.builder()
+                .cohort("female")
+                .testCount(4)
+                .averageScore(new BigDecimal("75.00"))
+                .scorePercentiles(Map.of("p50", new BigDecimal("75.00")))
+                .riskLevels(Map.of("low", 3L, "high", 1L))
+                .heartRateHistogram(List.of(HeartRateBucketDto.builder().from(70).to(80).count(4).build()))
+                .build();
+        when(jendoTestAnalyticsService.getPopulationAnalytics("gender")).thenReturn(PopulationAnalyticsDto.builder()
+                .dimension("GENDER")
+                .cohorts(List.of(female))
+                .build());
+
+        mockMvc.perform(get("/api/jendo-tests/analytics")
+                        .param("dimension", "gender"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.dimension").value("GENDER"))
+                .andExpect(jsonPath("$.data.cohorts[0].riskLevels.low").value(3))
+                .andExpect(jsonPath("$.data.cohorts[0].heartRateHistogram[0].to").value(80));
+
+        verify(jendoTestAnalyticsService, times(1)).getPopulationAnalytics("gender");
+    }
+
+    @Test
+    @DisplayName("Get elevated blood pressure tests - Success")
+    void getElevatedBloodPressureTests_Success() throws Exception {
+        PaginationResponse<JendoTestResponseDto> paginationResponse = PaginationResponse.<JendoTestResponseDto>builder()
+                .content(List.of(testResponse))
+                .pageNumber(0)
+                .pageSize(10)
+                .totalElements(1L)
+                .totalPages(1)
+                .first(true)
+                .last(true)
+                .build();
+
+        when(jendoTestService.getElevatedBloodPressureTests(1L, 140, null, 90, 0, 10)).thenReturn(paginationResponse);
+
+        mockMvc.perform(get("/api/jendo-tests/blood-pressure/elevated")
+                        .param("userId", "1")
+                        .param("systolicAbove", "140"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content[0].id").value(1));
+
+        verify(jendoTestService, times(1)).getElevatedBloodPressureTests(1L, 140, null, 90, 0, 10);
+    }
+
     @Test
     @DisplayName("Update test - Success")
     void updateTest_Success() throws Exception {
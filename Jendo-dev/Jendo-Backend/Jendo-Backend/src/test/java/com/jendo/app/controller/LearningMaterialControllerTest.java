@@ -4,11 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialRequestDto;
 import com.jendo.app.domain.learningmaterial.dto.LearningMaterialResponseDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialSearchResponseDto;
 import com.jendo.app.domain.learningmaterial.service.LearningMaterialService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -17,19 +20,25 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(LearningMaterialController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class LearningMaterialControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -113,7 +122,7 @@ class LearningMaterialControllerTest {
                 .content(materials)
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -131,6 +140,30 @@ class LearningMaterialControllerTest {
         verify(learningMaterialService, times(1)).getAllLearningMaterials(eq(0), eq(10));
     }
 
+    @Test
+    @DisplayName("Get all learning materials without total - Success")
+    void getAllLearningMaterials_WithoutTotal_Success() throws Exception {
+        PaginationResponse<LearningMaterialResponseDto> paginationResponse = PaginationResponse.<LearningMaterialResponseDto>builder()
+                .content(Arrays.asList(materialResponse))
+                .pageNumber(0)
+                .pageSize(10)
+                .first(true)
+                .last(true)
+                .build();
+
+        when(learningMaterialService.getLearningMaterialSlice(eq(0), eq(10))).thenReturn(paginationResponse);
+
+        mockMvc.perform(get("/api/learning-materials")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .param("withTotal", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.last").value(true))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(learningMaterialService, never()).getAllLearningMaterials(anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Get materials by category - Success")
     void getMaterialsByCategory_Success() throws Exception {
@@ -139,7 +172,7 @@ class LearningMaterialControllerTest {
                 .content(materials)
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -166,23 +199,33 @@ class LearningMaterialControllerTest {
                 .content(materials)
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
                 .build();
+        LearningMaterialSearchResponseDto searchResponse = LearningMaterialSearchResponseDto.builder()
+                .results(paginationResponse)
+                .categories(Map.of("Cardiology", 1L))
+                .types(Map.of("VIDEO", 1L))
+                .build();
 
-        when(learningMaterialService.searchLearningMaterials(eq("Heart"), eq(0), eq(10)))
-                .thenReturn(paginationResponse);
+        when(learningMaterialService.searchLearningMaterials(eq("Heart"), isNull(), eq("VIDEO"), eq(0), eq(10)))
+                .thenReturn(searchResponse);
 
         mockMvc.perform(get("/api/learning-materials/search")
                         .param("query", "Heart")
+                        .param("type", "VIDEO")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.success").value(true));
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.categories.Cardiology").value(1))
+                .andExpect(jsonPath("$.data.types.VIDEO").value(1));
 
-        verify(learningMaterialService, times(1)).searchLearningMaterials(eq("Heart"), eq(0), eq(10));
+        verify(learningMaterialService, times(1)).searchLearningMaterials(eq("Heart"), isNull(), eq("VIDEO"), eq(0), eq(10));
     }
 
     @Test
@@ -5,15 +5,21 @@ import com.jendo.app.common.dto.PaginationResponse;
 import com.jendo.app.domain.notification.dto.NotificationRequestDto;
 import com.jendo.app.domain.notification.dto.NotificationResponseDto;
 import com.jendo.app.domain.notification.service.NotificationService;
+import com.jendo.app.security.JwtAuthFilter;
+import com.jendo.app.security.JwtUtil;
+import com.jendo.app.security.VerifiedToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -25,11 +31,15 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(NotificationController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class NotificationControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -105,7 +115,7 @@ class NotificationControllerTest {
                 .content(notifications)
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -123,6 +133,29 @@ class NotificationControllerTest {
         verify(notificationService, times(1)).getNotificationsByUserId(eq(1L), eq(0), eq(10));
     }
 
+    @Test
+    @DisplayName("Get notifications by user with cursor - Success")
+    void getNotificationsByUserId_Cursor_Success() throws Exception {
+        PaginationResponse<NotificationResponseDto> paginationResponse = PaginationResponse.<NotificationResponseDto>builder()
+                .content(Arrays.asList(notificationResponse))
+                .pageSize(1)
+                .first(true)
+                .last(false)
+                .nextCursor("next")
+                .build();
+
+        when(notificationService.getNotificationsByUserId(eq(1L), eq(""), eq(1))).thenReturn(paginationResponse);
+
+        mockMvc.perform(get("/api/notifications/user/1")
+                        .param("cursor", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        verify(notificationService, never()).getNotificationsByUserId(anyLong(), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("Get unread notifications - Success")
     void getUnreadNotifications_Success() throws Exception {
@@ -151,6 +184,47 @@ class NotificationControllerTest {
         verify(notificationService, times(1)).markAsRead(1L);
     }
 
+    @Test
+    @DisplayName("Stream notifications - Success")
+    void streamNotifications_Success() throws Exception {
+        when(notificationService.subscribe(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/notifications/user/1/stream")
+                        .requestAttr(JwtUtil.VERIFIED_TOKEN_ATTRIBUTE, tokenFor(1L))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(notificationService, times(1)).subscribe(1L);
+    }
+
+    @Test
+    @DisplayName("Stream notifications of another user - Forbidden")
+    void streamNotifications_OtherUser_Forbidden() throws Exception {
+        mockMvc.perform(get("/api/notifications/user/1/stream")
+                        .requestAttr(JwtUtil.VERIFIED_TOKEN_ATTRIBUTE, tokenFor(2L))
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/notifications/user/1/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+
+        verify(notificationService, never()).subscribe(anyLong());
+    }
+
+    @Test
+    @DisplayName("Mark all as read - Success")
+    void markAllAsRead_Success() throws Exception {
+        when(notificationService.markAllAsRead(1L)).thenReturn(3);
+
+        mockMvc.perform(patch("/api/notifications/user/1/read-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data").value(3));
+
+        verify(notificationService, times(1)).markAllAsRead(1L);
+    }
+
     @Test
     @DisplayName("Delete notification - Success")
     void deleteNotification_Success() throws Exception {
@@ -161,4 +235,8 @@ class NotificationControllerTest {
 
         verify(notificationService, times(1)).deleteNotification(1L);
     }
+
+    private static VerifiedToken tokenFor(Long userId) {
+        return new VerifiedToken("user" + userId + "@example.com", userId, Instant.now(), Instant.now().plusSeconds(60));
+    }
 }
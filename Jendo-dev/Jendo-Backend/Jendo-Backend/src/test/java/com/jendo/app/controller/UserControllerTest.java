@@ -2,23 +2,35 @@ package com.jendo.app.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.healthrecord.dto.HealthRecordImportResultDto;
+import com.jendo.app.domain.healthrecord.service.HealthRecordFormat;
+import com.jendo.app.domain.healthrecord.service.HealthRecordExportService;
+import com.jendo.app.domain.healthrecord.service.HealthRecordImportService;
 import com.jendo.app.domain.user.dto.UserRequestDto;
 import com.jendo.app.domain.user.dto.UserResponseDto;
 import com.jendo.app.domain.user.dto.UserUpdateDto;
 import com.jendo.app.domain.user.service.UserService;
+import com.jendo.app.security.JwtAuthFilter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,17 +39,27 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class UserControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private JwtAuthFilter jwtAuthFilter;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private HealthRecordExportService healthRecordExportService;
+
+    @MockBean
+    private HealthRecordImportService healthRecordImportService;
+
     private UserRequestDto userRequest;
     private UserResponseDto userResponse;
 
@@ -132,7 +154,7 @@ class UserControllerTest {
                 .content(List.of(userResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -196,7 +218,7 @@ class UserControllerTest {
                 .content(List.of(userResponse))
                 .pageNumber(0)
                 .pageSize(10)
-                .totalElements(1)
+                .totalElements(1L)
                 .totalPages(1)
                 .first(true)
                 .last(true)
@@ -214,4 +236,66 @@ class UserControllerTest {
 
         verify(userService, times(1)).searchUsers("John", 0, 10);
     }
+
+    @Test
+    @DisplayName("Export health record - Streams gzip CSV")
+    void exportHealthRecord_Success() throws Exception {
+        when(healthRecordExportService.exportHealthRecord(1L, HealthRecordFormat.CSV, true))
+                .thenReturn(out -> out.write("type,id\n".getBytes()));
+
+        MvcResult result = mockMvc.perform(get("/api/users/1/health-record/export")
+                        .param("format", "csv")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"health-record-1.csv\""))
+                .andExpect(content().string("type,id\n"));
+
+        verify(healthRecordExportService, times(1)).exportHealthRecord(1L, HealthRecordFormat.CSV, true);
+    }
+
+    @Test
+    @DisplayName("Export health record - Unknown format")
+    void exportHealthRecord_UnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/users/1/health-record/export")
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(healthRecordExportService);
+    }
+
+    @Test
+    @DisplayName("Import health records - Gzip NDJSON")
+    void importHealthRecords_Success() throws Exception {
+        String upload = "{\"type\":\"jendoTest\",\"record\":{\"userId\":1}}\n";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(upload.getBytes(StandardCharsets.UTF_8));
+        }
+        HealthRecordImportResultDto result = HealthRecordImportResultDto.builder()
+                .processed(1)
+                .imported(1)
+                .errors(List.of())
+                .build();
+        when(healthRecordImportService.importHealthRecords(any(InputStream.class), eq(HealthRecordFormat.NDJSON)))
+                .thenAnswer(invocation -> {
+                    InputStream in = invocation.getArgument(0);
+                    return upload.equals(new String(in.readAllBytes(), StandardCharsets.UTF_8)) ? result : null;
+                });
+
+        mockMvc.perform(post("/api/users/health-records/import")
+                        .contentType("application/x-ndjson")
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.imported").value(1));
+
+        verify(healthRecordImportService, times(1)).importHealthRecords(any(InputStream.class), eq(HealthRecordFormat.NDJSON));
+    }
 }
@@ -0,0 +1,121 @@
+package com.jendo.app.domain;
+
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.healthparameter.dto.HealthParameterRequestDto;
+import com.jendo.app.domain.healthparameter.mapper.HealthParameterMapper;
+import com.jendo.app.domain.healthparameter.service.HealthParameterServiceImpl;
+import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.mapper.JendoTestMapper;
+import com.jendo.app.domain.jendotest.service.JendoTestRollups;
+import com.jendo.app.domain.jendotest.service.JendoTestServiceImpl;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.service.UserSummaryCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({JendoTestServiceImpl.class, JendoTestMapper.class, JendoTestRollups.class, HealthParameterServiceImpl.class,
+        HealthParameterMapper.class, UserSummaryCache.class, SimpleMeterRegistry.class})
+class CreatePathQueryCountTest {
+
+    private static final long UNKNOWN_USER = 999_999L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JendoTestServiceImpl jendoTestService;
+
+    @Autowired
+    private HealthParameterServiceImpl healthParameterService;
+
+    private Long userId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persistAndFlush(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .password("secret")
+                .build()).getId();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Create test binds the user by reference and reads the name from the summary cache")
+    void createTest_DoesNotLoadUser() {
+        JendoTestResponseDto first = jendoTestService.createTest(request(userId, LocalDate.of(2024, 1, 15)));
+        entityManager.clear();
+        JendoTestResponseDto second = jendoTestService.createTest(request(userId, LocalDate.of(2024, 1, 16)));
+
+        assertEquals("John Doe", first.getUserName());
+        assertEquals("John Doe", second.getUserName());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+        String summaryQuery = Arrays.stream(statistics.getQueries())
+                .filter(query -> query.contains("UserSummary"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, statistics.getQueryStatistics(summaryQuery).getExecutionCount());
+    }
+
+    @Test
+    @DisplayName("Create test for an unknown user is translated to not found")
+    void createTest_UnknownUser() {
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> jendoTestService.createTest(request(UNKNOWN_USER, LocalDate.of(2024, 1, 15))));
+
+        assertEquals("User not found with id: " + UNKNOWN_USER, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Create health parameter for an unknown user is translated to not found")
+    void createHealthParameter_UnknownUser() {
+        HealthParameterRequestDto request = HealthParameterRequestDto.builder()
+                .userId(UNKNOWN_USER)
+                .bloodType("O+")
+                .build();
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> healthParameterService.createHealthParameter(request));
+
+        assertEquals("User not found with id: " + UNKNOWN_USER, exception.getMessage());
+    }
+
+    private JendoTestRequestDto request(Long userId, LocalDate testDate) {
+        return JendoTestRequestDto.builder()
+                .userId(userId)
+                .score(new BigDecimal("85.5"))
+                .heartRate(72)
+                .riskLevel("low")
+                .bloodPressure("120/80")
+                .testDate(testDate)
+                .build();
+    }
+}
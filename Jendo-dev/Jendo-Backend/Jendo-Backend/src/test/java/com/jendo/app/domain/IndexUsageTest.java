@@ -0,0 +1,209 @@
+package com.jendo.app.domain;
+
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.healthparameter.entity.HealthParameter;
+import com.jendo.app.domain.healthparameter.repository.HealthParameterRepository;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.notification.entity.Notification;
+import com.jendo.app.domain.notification.repository.NotificationRepository;
+import com.jendo.app.domain.user.entity.OtpToken;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.OtpTokenRepository;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.jendo.app.domain.IndexUsageTest$RecordingStatementInspector")
+@ActiveProfiles("test")
+class IndexUsageTest {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+    private static final int USERS = 5;
+    private static final int ROWS_PER_USER = 40;
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 20);
+    private static final AtomicInteger SEEDS = new AtomicInteger();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JendoTestRepository jendoTestRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private HealthParameterRepository healthParameterRepository;
+
+    @Autowired
+    private OtpTokenRepository otpTokenRepository;
+
+    private Long userId;
+    private Long doctorId;
+    private String otpEmail;
+
+    @BeforeEach
+    void setUp() {
+        int seed = SEEDS.incrementAndGet();
+        Doctor doctor = entityManager.persist(Doctor.builder().name("Dr. Jane Smith").specialty("Cardiology").build());
+        doctorId = doctor.getId();
+        for (int u = 0; u < USERS; u++) {
+            User user = entityManager.persist(User.builder()
+                    .firstName("John" + u)
+                    .lastName("Doe")
+                    .email("john" + u + "." + seed + "@example.com")
+                    .password("secret")
+                    .build());
+            userId = user.getId();
+            if (u == 1) {
+                otpEmail = user.getEmail();
+            }
+            for (int i = 0; i < ROWS_PER_USER; i++) {
+                entityManager.persist(JendoTest.builder()
+                        .user(user)
+                        .score(new BigDecimal("85.5"))
+                        .testDate(DAY.plusDays(i))
+                        .build());
+                entityManager.persist(Appointment.builder()
+                        .user(user)
+                        .doctor(doctor)
+                        .date(DAY.plusDays(i))
+                        .time(LocalTime.of(10, 30))
+                        .build());
+                entityManager.persist(Notification.builder().user(user).message("Reminder").isRead(i % 4 != 0).build());
+                entityManager.persist(HealthParameter.builder().user(user).build());
+                entityManager.persist(OtpToken.builder()
+                        .email(user.getEmail())
+                        .otp(String.format("%06d", i))
+                        .expiresAt(LocalDateTime.now().plusMinutes(5))
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // ANALYZE commits on H2, so each test seeds its own rows instead of relying on rollback
+        entityManager.getEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+        STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Jendo tests by user and date range use the (user_id, test_date) index")
+    void jendoTestsByUserAndDateRange_UsesIndex() {
+        assertEquals(31, jendoTestRepository.findByUserIdAndTestDateBetween(userId, DAY, DAY.plusDays(30)).size());
+
+        assertIndexUsed("idx_jendo_tests_user_id_test_date", userId, DAY, DAY.plusDays(30));
+    }
+
+    @Test
+    @DisplayName("Appointments by doctor and date use the (doctor_id, date) index")
+    void appointmentsByDoctorAndDate_UsesIndex() {
+        assertEquals(USERS, appointmentRepository.findByDoctorIdAndDate(doctorId, DAY).size());
+
+        assertIndexUsed("idx_appointments_doctor_id_date", doctorId, DAY);
+    }
+
+    @Test
+    @DisplayName("Appointment keyset page by doctor uses the (doctor_id, date) index")
+    void appointmentKeysetByDoctor_UsesIndex() {
+        assertEquals(11, appointmentRepository.findKeysetPageByDoctorIdAfter(doctorId, DAY.plusDays(10), Long.MAX_VALUE,
+                PageRequest.of(0, 11)).size());
+
+        assertIndexUsed("idx_appointments_doctor_id_date", doctorId, DAY.plusDays(10), DAY.plusDays(10), Long.MAX_VALUE, 0, 11);
+    }
+
+    @Test
+    @DisplayName("Unread notification count uses the (user_id, is_read, created_at) index")
+    void unreadNotificationCount_UsesIndex() {
+        assertEquals(ROWS_PER_USER / 4, notificationRepository.countByUserIdAndIsReadFalse(userId));
+
+        assertIndexUsed("idx_notifications_user_id_is_read_created_at", userId);
+    }
+
+    @Test
+    @DisplayName("Unread notification list uses the (user_id, is_read, created_at) index")
+    void unreadNotificationList_UsesIndex() {
+        assertEquals(ROWS_PER_USER / 4, notificationRepository.findByUserIdAndIsReadFalse(userId).size());
+
+        assertIndexUsed("idx_notifications_user_id_is_read_created_at", userId);
+    }
+
+    @Test
+    @DisplayName("Mark all notifications as read uses the (user_id, is_read, created_at) index")
+    void markAllNotificationsAsRead_UsesIndex() {
+        assertEquals(ROWS_PER_USER / 4, notificationRepository.markAllAsReadByUserId(userId));
+
+        assertIndexUsed("idx_notifications_user_id_is_read_created_at", userId);
+    }
+
+    @Test
+    @DisplayName("Health parameter keyset page by user uses the (user_id, created_at) index")
+    void healthParameterKeysetByUser_UsesIndex() {
+        LocalDateTime cursor = LocalDateTime.now().plusDays(1);
+        assertEquals(11, healthParameterRepository.findKeysetPageByUserIdAfter(userId, cursor, Long.MAX_VALUE,
+                PageRequest.of(0, 11)).size());
+
+        assertIndexUsed("idx_health_parameters_user_id_created_at", userId, cursor, cursor, Long.MAX_VALUE, 0, 11);
+    }
+
+    @Test
+    @DisplayName("OTP lookup uses the (email, otp) index")
+    void otpLookup_UsesIndex() {
+        assertTrue(otpTokenRepository.findByEmailAndOtp(otpEmail, "000007").isPresent());
+
+        assertIndexUsed("idx_otp_tokens_email_otp", otpEmail, "000007");
+    }
+
+    private void assertIndexUsed(String indexName, Object... parameters) {
+        assertEquals(1, STATEMENTS.size(), "expected a single statement but got " + STATEMENTS);
+        String sql = STATEMENTS.get(0);
+        String plan = entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 0; i < parameterCount; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+        assertTrue(plan.toLowerCase().contains(indexName), "expected " + indexName + " in plan:\n" + plan);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.jendo.app.domain;
+
+import com.jendo.app.domain.notification.entity.Notification;
+import com.jendo.app.domain.notification.repository.NotificationRepository;
+import com.jendo.app.domain.user.entity.Role;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class InsertBatchingTest {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john@example.com")
+                .password("secret")
+                .build());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("saveAll of notifications is flushed as JDBC batches")
+    void saveAll_Notifications() {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            notifications.add(Notification.builder().user(user).message("Reminder " + i).type("INFO").isRead(false).build());
+        }
+
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+
+        assertBatched();
+    }
+
+    @Test
+    @DisplayName("saveAll of roles is flushed as JDBC batches")
+    void saveAll_Roles() {
+        List<Role> roles = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            roles.add(Role.builder().user(user).roleName("ROLE_" + i).build());
+        }
+
+        roleRepository.saveAll(roles);
+        entityManager.flush();
+
+        assertBatched();
+    }
+
+    private void assertBatched() {
+        assertEquals(ROWS, statistics.getEntityInsertCount());
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= 2 * (ROWS / BATCH_SIZE) + 1,
+                "expected one insert and one sequence call per " + BATCH_SIZE + " rows but saw " + statements);
+    }
+}
@@ -0,0 +1,218 @@
+package com.jendo.app.domain;
+
+import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
+import com.jendo.app.domain.appointment.mapper.AppointmentMapper;
+import com.jendo.app.domain.appointment.service.AppointmentServiceImpl;
+import com.jendo.app.domain.appointment.service.BookedSlotIndex;
+import com.jendo.app.domain.appointment.service.SlotSchedule;
+import com.jendo.app.domain.appointment.service.SpecialtySlotCache;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.mapper.JendoTestMapper;
+import com.jendo.app.domain.jendotest.service.JendoTestRollups;
+import com.jendo.app.domain.jendotest.service.JendoTestServiceImpl;
+import com.jendo.app.domain.user.dto.UserResponseDto;
+import com.jendo.app.domain.user.entity.Role;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.mapper.UserMapper;
+import com.jendo.app.domain.user.service.UserServiceImpl;
+import com.jendo.app.domain.user.service.UserSummaryCache;
+import com.jendo.app.security.PrincipalCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({AppointmentServiceImpl.class, AppointmentMapper.class, BookedSlotIndex.class, SlotSchedule.class,
+        SpecialtySlotCache.class, SimpleMeterRegistry.class, JendoTestServiceImpl.class, JendoTestMapper.class,
+        JendoTestRollups.class, UserSummaryCache.class, UserServiceImpl.class, UserMapper.class, PrincipalCache.class,
+        BCryptPasswordEncoder.class})
+class ListingQueryCountTest {
+
+    private static final int ROWS = 6;
+    private static final int PAGE_SIZE = 4;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppointmentServiceImpl appointmentService;
+
+    @Autowired
+    private JendoTestServiceImpl jendoTestService;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    private Doctor doctor;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        doctor = entityManager.persist(Doctor.builder().name("Dr. Jane Smith").specialty("Cardiology").build());
+        for (int i = 0; i < ROWS; i++) {
+            User user = entityManager.persist(User.builder()
+                    .firstName("John" + i)
+                    .lastName("Doe")
+                    .email("john" + i + "@example.com")
+                    .password("secret")
+                    .build());
+            entityManager.persist(Role.builder().user(user).roleName("PATIENT").build());
+            entityManager.persist(Role.builder().user(user).roleName("USER").build());
+            entityManager.persist(Appointment.builder()
+                    .user(user)
+                    .doctor(doctor)
+                    .doctorName(doctor.getName())
+                    .date(LocalDate.of(2024, 1, 20).plusDays(i))
+                    .time(LocalTime.of(10, 30))
+                    .status(AppointmentStatus.SCHEDULED)
+                    .build());
+            entityManager.persist(JendoTest.builder()
+                    .user(user)
+                    .score(new BigDecimal("85.5"))
+                    .heartRate(72)
+                    .riskLevel("LOW")
+                    .testDate(LocalDate.of(2024, 1, 15).plusDays(i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Get all appointments - one select plus one count per page")
+    void getAllAppointments_SingleSelectPlusCount() {
+        PaginationResponse<AppointmentResponseDto> page = appointmentService.getAllAppointments(0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals("John5 Doe", page.getContent().get(0).getUserName());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get appointments by doctor - one select plus one count per page")
+    void getAppointmentsByDoctorId_SingleSelectPlusCount() {
+        PaginationResponse<AppointmentResponseDto> page =
+                appointmentService.getAppointmentsByDoctorId(doctor.getId(), 0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(ROWS, page.getTotalElements().intValue());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get all Jendo tests - one select plus one count per page")
+    void getAllTests_SingleSelectPlusCount() {
+        PaginationResponse<JendoTestResponseDto> page = jendoTestService.getAllTests(0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        page.getContent().forEach(test -> assertEquals("Doe", test.getUserName().split(" ")[1]));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get all users - roles of the whole page come from one query, whatever the page size")
+    void getAllUsers_RolesFetchedOncePerPage() {
+        for (int size : new int[]{1, PAGE_SIZE, ROWS}) {
+            entityManager.clear();
+            statistics.clear();
+
+            PaginationResponse<UserResponseDto> page = userService.getAllUsers(0, size);
+
+            assertEquals(size, page.getContent().size());
+            page.getContent().forEach(user ->
+                    assertEquals(List.of("PATIENT", "USER"), user.getRoles().stream().sorted().toList()));
+            assertEquals(3, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Search users - one select, one count and one roles query per page")
+    void searchUsers_RolesFetchedOncePerPage() {
+        PaginationResponse<UserResponseDto> page = userService.searchUsers("Doe", 0, ROWS);
+
+        assertEquals(ROWS, page.getContent().size());
+        page.getContent().forEach(user -> assertEquals(2, user.getRoles().size()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get all users with cursor - one select and one roles query per page")
+    void getAllUsers_Cursor_RolesFetchedOncePerPage() {
+        PaginationResponse<UserResponseDto> page = userService.getAllUsers("", PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        page.getContent().forEach(user -> assertEquals(2, user.getRoles().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get Jendo test slice by user - one select and no count")
+    void getTestSliceByUserId_SingleSelectWithoutCount() {
+        Long userId = entityManager.getEntityManager()
+                .createQuery("select u.id from User u where u.email = 'john0@example.com'", Long.class)
+                .getSingleResult();
+        statistics.clear();
+
+        PaginationResponse<JendoTestResponseDto> page = jendoTestService.getTestSliceByUserId(userId, 0, PAGE_SIZE);
+
+        assertEquals(1, page.getContent().size());
+        assertNull(page.getTotalElements());
+        assertTrue(page.isLast());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Get appointments by doctor with cursor - no count query while walking the pages")
+    void getAppointmentsByDoctorId_Cursor_WalksAllPagesWithoutCount() {
+        List<LocalDate> dates = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            PaginationResponse<AppointmentResponseDto> page =
+                    appointmentService.getAppointmentsByDoctorId(doctor.getId(), cursor, PAGE_SIZE);
+            assertNull(page.getTotalElements());
+            page.getContent().forEach(appointment -> dates.add(appointment.getDate()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(2, pages);
+        assertEquals(ROWS, dates.size());
+        assertEquals(LocalDate.of(2024, 1, 25), dates.get(0));
+        assertEquals(LocalDate.of(2024, 1, 20), dates.get(ROWS - 1));
+        // The page that runs out of dated rows also looks for undated ones, which sort last
+        assertEquals(pages + 1, statistics.getPrepareStatementCount());
+    }
+}
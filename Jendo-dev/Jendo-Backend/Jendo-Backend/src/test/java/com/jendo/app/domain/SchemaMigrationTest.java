@@ -0,0 +1,105 @@
+package com.jendo.app.domain;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Flyway applies every migration and Hibernate validates the resulting schema")
+    void migrations_ApplyAndValidate() {
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(flyway.info().all()[flyway.info().all().length - 1].getVersion(), flyway.info().current().getVersion());
+        assertEquals(18, jdbcTemplate.queryForObject("select count(*) from information_schema.tables "
+                + "where table_schema = 'public' and table_name <> 'flyway_schema_history'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Every id sequence increments by the pooled allocation size")
+    void idSequences_MatchAllocationSize() {
+        List<Map<String, Object>> sequences = jdbcTemplate.queryForList(
+                "select sequencename, increment_by from pg_sequences where schemaname = 'public'");
+
+        assertEquals(18, sequences.size());
+        sequences.forEach(sequence -> assertEquals(50L, sequence.get("increment_by"), sequence.toString()));
+    }
+
+    @Test
+    @DisplayName("Migrations normalise legacy appointment statuses and parse legacy blood pressure readings")
+    void legacyRows_AreMigrated() {
+        jdbcTemplate.execute("drop database if exists legacy_rows");
+        jdbcTemplate.execute("create database legacy_rows");
+        DataSource legacy = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl().replaceFirst("/[^/?]+(\\?|$)", "/legacy_rows$1"),
+                POSTGRES.getUsername(), POSTGRES.getPassword());
+        JdbcTemplate legacyJdbc = new JdbcTemplate(legacy);
+
+        migrate(legacy, "3");
+        legacyJdbc.update("insert into users (first_name, last_name, email, password) values ('Legacy', 'User', "
+                + "'legacy@example.com', 'secret')");
+        legacyJdbc.update("insert into appointments (user_id, status) select id, s.status from users cross join "
+                + "(values (' confirmed '), ('Canceled'), ('completed'), ('no-show'), (null)) as s (status)");
+        migrate(legacy, "5");
+        legacyJdbc.update("insert into jendo_tests (user_id, blood_pressure) select id, b.reading from users "
+                + "cross join (values ('120/80'), (' 135 / 85 '), ('n/a')) as b (reading)");
+        migrate(legacy, "latest");
+
+        assertEquals(List.of("CANCELLED", "COMPLETED", "CONFIRMED", "SCHEDULED", "SCHEDULED"),
+                legacyJdbc.queryForList("select status from appointments order by status", String.class));
+        assertEquals(0, legacyJdbc.queryForObject("select count(*) from appointments where version <> 0",
+                Integer.class));
+        assertEquals(List.of("120/80", "135/85", "unparsed"), legacyJdbc.queryForList(
+                "select coalesce(systolic || '/' || diastolic, 'unparsed') from jendo_tests order by id", String.class));
+    }
+
+    private static void migrate(DataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,122 @@
+package com.jendo.app.domain.appointment;
+
+import com.jendo.app.common.dto.PaginationResponse;
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.appointment.service.AppointmentService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentKeysetPagingTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("keyset" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build());
+    }
+
+    @Test
+    @DisplayName("Cursor paging returns undated appointments last, across a page boundary")
+    void getAppointmentsByUserId_Cursor_NullDates() {
+        LocalDate today = LocalDate.now();
+        List<Long> dated = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            dated.add(save(today.plusDays(i)));
+        }
+        List<Long> undated = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            undated.add(save(null));
+        }
+
+        List<Long> expected = new ArrayList<>(dated);
+        expected.sort(Comparator.reverseOrder());
+        undated.sort(Comparator.reverseOrder());
+        expected.addAll(undated);
+
+        List<Long> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = "";
+        PaginationResponse<AppointmentResponseDto> page;
+        do {
+            page = appointmentService.getAppointmentsByUserId(user.getId(), cursor, 2);
+            page.getContent().forEach(appointment -> seen.add(appointment.getId()));
+            pageSizes.add(page.getContent().size());
+            cursor = page.getNextCursor();
+        } while (!page.isLast());
+
+        assertEquals(expected, seen);
+        assertEquals(List.of(2, 2, 2), pageSizes);
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Cursor paging continues from a cursor taken on an undated appointment")
+    void getAppointmentsByUserId_Cursor_FromUndatedRow() {
+        save(LocalDate.now());
+        Long first = save(null);
+        Long second = save(null);
+
+        PaginationResponse<AppointmentResponseDto> head = appointmentService.getAppointmentsByUserId(user.getId(), "", 2);
+        assertFalse(head.isLast());
+        assertEquals(second, head.getContent().get(1).getId());
+
+        PaginationResponse<AppointmentResponseDto> tail =
+                appointmentService.getAppointmentsByUserId(user.getId(), head.getNextCursor(), 2);
+        assertEquals(List.of(first), tail.getContent().stream().map(AppointmentResponseDto::getId).toList());
+        assertTrue(tail.isLast());
+    }
+
+    @Test
+    @DisplayName("Cursor paging rejects a page size below one")
+    void getAllAppointments_Cursor_InvalidSize() {
+        assertThrows(BadRequestException.class, () -> appointmentService.getAllAppointments("", 0));
+        assertThrows(BadRequestException.class, () -> appointmentService.getAllAppointments("", -1));
+    }
+
+    private Long save(LocalDate date) {
+        return appointmentRepository.save(Appointment.builder()
+                .user(user)
+                .email(user.getEmail())
+                .date(date)
+                .build()).getId();
+    }
+}
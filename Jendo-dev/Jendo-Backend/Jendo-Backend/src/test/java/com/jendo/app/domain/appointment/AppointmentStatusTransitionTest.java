@@ -0,0 +1,142 @@
+package com.jendo.app.domain.appointment;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.common.exceptions.ConflictException;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.appointment.dto.AppointmentRequestDto;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.appointment.service.AppointmentService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentStatusTransitionTest {
+
+    private static final int THREADS = 8;
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("transition" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Status follows SCHEDULED -> CONFIRMED -> COMPLETED and rejects other moves")
+    void updateAppointmentStatus_StateMachine() {
+        Long id = createAppointment();
+
+        assertThrows(ConflictException.class, () -> appointmentService.updateAppointmentStatus(id, "COMPLETED"));
+        assertEquals("CONFIRMED", appointmentService.updateAppointmentStatus(id, "confirmed").getStatus());
+        assertThrows(ConflictException.class, () -> appointmentService.updateAppointmentStatus(id, "SCHEDULED"));
+        assertEquals("COMPLETED", appointmentService.updateAppointmentStatus(id, "COMPLETED").getStatus());
+        assertThrows(ConflictException.class, () -> appointmentService.updateAppointmentStatus(id, "CANCELLED"));
+        assertThrows(BadRequestException.class, () -> appointmentService.updateAppointmentStatus(id, "ARCHIVED"));
+        assertThrows(NotFoundException.class, () -> appointmentService.updateAppointmentStatus(-1L, "CONFIRMED"));
+
+        assertEquals(2L, appointmentRepository.findById(id).map(Appointment::getVersion).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Competing status transitions - exactly one wins")
+    void updateAppointmentStatus_Concurrent_OneWins() throws Exception {
+        Long id = createAppointment();
+        appointmentService.updateAppointmentStatus(id, "CONFIRMED");
+
+        List<Callable<String>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            String target = i % 2 == 0 ? "COMPLETED" : "CANCELLED";
+            tasks.add(() -> appointmentService.updateAppointmentStatus(id, target).getStatus());
+        }
+
+        List<String> winners = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<String> future : executor.invokeAll(tasks)) {
+                try {
+                    winners.add(future.get());
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ConflictException.class, e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, winners.size());
+        assertEquals(winners.get(0), appointmentRepository.findById(id).orElseThrow().getStatus().name());
+    }
+
+    @Test
+    @DisplayName("Concurrent edits of different fields are retried instead of lost")
+    void updateAppointment_Concurrent_NoLostUpdates() throws Exception {
+        Long id = createAppointment();
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            boolean email = i == 0;
+            tasks.add(() -> appointmentService.updateAppointment(id, AppointmentRequestDto.builder()
+                    .userId(userId)
+                    .email(email ? "patient@example.com" : null)
+                    .qualifications(email ? null : "MBBS")
+                    .build()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Appointment appointment = appointmentRepository.findById(id).orElseThrow();
+        assertEquals("patient@example.com", appointment.getEmail());
+        assertEquals("MBBS", appointment.getQualifications());
+        assertEquals(2L, appointment.getVersion());
+    }
+
+    private Long createAppointment() {
+        return appointmentService.createAppointment(AppointmentRequestDto.builder()
+                .userId(userId)
+                .type("Consultation")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,239 @@
+package com.jendo.app.domain.appointment;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.common.exceptions.ConflictException;
+import com.jendo.app.domain.appointment.dto.AppointmentRequestDto;
+import com.jendo.app.domain.appointment.dto.AppointmentResponseDto;
+import com.jendo.app.domain.appointment.dto.DayAvailabilityDto;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.entity.AppointmentStatus;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.appointment.service.AppointmentService;
+import com.jendo.app.domain.appointment.service.SlotAvailabilityService;
+import com.jendo.app.domain.doctor.entity.Doctor;
+import com.jendo.app.domain.doctor.repository.DoctorRepository;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SlotBookingConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final LocalTime SLOT = LocalTime.of(10, 30);
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private SlotAvailabilityService slotAvailabilityService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private DoctorRepository doctorRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long doctorId;
+    private LocalDate monday;
+
+    @BeforeEach
+    void setUp() {
+        doctorId = doctorRepository.save(Doctor.builder()
+                .name("Dr. Jane Smith")
+                .specialty("Cardiology")
+                .isAvailable(true)
+                .availableDays("Monday, Wednesday, Friday")
+                .build()).getId();
+        monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings of one slot - exactly one succeeds")
+    void createAppointment_ConcurrentSameSlot_OneWins() throws Exception {
+        List<Callable<AppointmentResponseDto>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long userId = createUser();
+            tasks.add(() -> appointmentService.createAppointment(request(userId, monday, SLOT)));
+        }
+
+        int booked = 0;
+        int conflicts = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<AppointmentResponseDto> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                    booked++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ConflictException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, booked);
+        assertEquals(THREADS - 1, conflicts);
+        assertEquals(1, appointmentRepository.findByDoctorIdAndDate(doctorId, monday).size());
+        assertFalse(freeSlots(monday).contains(SLOT));
+    }
+
+    @Test
+    @DisplayName("Cancelling or moving an appointment frees its slot")
+    void updateAppointment_CancelAndMove_ReleasesSlot() {
+        Long userId = createUser();
+        AppointmentResponseDto appointment = appointmentService.createAppointment(request(userId, monday, SLOT));
+        assertFalse(freeSlots(monday).contains(SLOT));
+
+        appointmentService.updateAppointmentStatus(appointment.getId(), "CANCELLED");
+        assertTrue(freeSlots(monday).contains(SLOT));
+
+        AppointmentResponseDto rebooked = appointmentService.createAppointment(request(createUser(), monday, SLOT));
+        appointmentService.updateAppointment(rebooked.getId(), AppointmentRequestDto.builder()
+                .userId(userId)
+                .time(LocalTime.of(11, 0))
+                .build());
+
+        List<LocalTime> free = freeSlots(monday);
+        assertTrue(free.contains(SLOT));
+        assertFalse(free.contains(LocalTime.of(11, 0)));
+    }
+
+    @Test
+    @DisplayName("Bookings outside the slot grid or the doctor's days are rejected")
+    void createAppointment_OffGridOrDayOff_Rejected() {
+        Long userId = createUser();
+
+        assertThrows(BadRequestException.class,
+                () -> appointmentService.createAppointment(request(userId, monday, LocalTime.of(10, 15))));
+        assertThrows(BadRequestException.class,
+                () -> appointmentService.createAppointment(request(userId, monday.plusDays(1), SLOT)));
+
+        List<DayAvailabilityDto> week = slotAvailabilityService.getAvailability(doctorId, monday, monday.plusDays(6));
+        assertEquals(List.of(monday, monday.plusDays(2), monday.plusDays(4)),
+                week.stream().map(DayAvailabilityDto::getDate).toList());
+    }
+
+    @Test
+    @DisplayName("Legacy appointments at off-grid times stay editable until their time changes")
+    void updateAppointment_LegacyOffGrid_Editable() {
+        LocalTime legacyTime = LocalTime.of(10, 15);
+        Long id = appointmentRepository.save(Appointment.builder()
+                .user(userRepository.getReferenceById(createUser()))
+                .doctor(doctorRepository.getReferenceById(doctorId))
+                .date(monday)
+                .time(legacyTime)
+                .status(AppointmentStatus.SCHEDULED)
+                .build()).getId();
+
+        assertEquals("CONFIRMED", appointmentService.updateAppointment(id, AppointmentRequestDto.builder()
+                .status("CONFIRMED")
+                .build()).getStatus());
+        assertEquals(monday.plusDays(2), appointmentService.updateAppointment(id, AppointmentRequestDto.builder()
+                .doctorId(doctorId)
+                .date(monday.plusDays(2))
+                .time(legacyTime)
+                .build()).getDate());
+        assertThrows(BadRequestException.class, () -> appointmentService.updateAppointment(id,
+                AppointmentRequestDto.builder().time(LocalTime.of(10, 45)).build()));
+
+        appointmentService.updateAppointment(id, AppointmentRequestDto.builder().time(SLOT).build());
+        assertFalse(freeSlots(monday.plusDays(2)).contains(SLOT));
+    }
+
+    @Test
+    @DisplayName("Earliest slots by specialty span doctors and drop booked slots")
+    void findEarliestSlots_AcrossDoctors_ReflectsBookings() {
+        Long early = doctorRepository.save(Doctor.builder()
+                .name("Dr. Adam Reed")
+                .specialty("Neurology")
+                .isAvailable(true)
+                .availableDays("Weekdays")
+                .build()).getId();
+        Long late = doctorRepository.save(Doctor.builder()
+                .name("Dr. Beth Young")
+                .specialty("Paediatric Neurology")
+                .isAvailable(true)
+                .availableDays("Monday")
+                .build()).getId();
+        doctorRepository.save(Doctor.builder()
+                .name("Dr. Carl Stone")
+                .specialty("Neurology")
+                .isAvailable(false)
+                .build());
+
+        assertEquals(List.of(early + "@09:00", late + "@09:00", early + "@09:30"), earliest(3));
+        assertTrue(slotAvailabilityService.findEarliestSlots("%", monday, monday.plusDays(1), 3).isEmpty());
+        assertTrue(slotAvailabilityService.findEarliestSlots("_eurology", monday, monday.plusDays(1), 3).isEmpty());
+
+        appointmentService.createAppointment(AppointmentRequestDto.builder()
+                .userId(createUser())
+                .doctorId(early)
+                .date(monday)
+                .time(LocalTime.of(9, 0))
+                .status("SCHEDULED")
+                .build());
+
+        assertEquals(List.of(late + "@09:00", early + "@09:30", late + "@09:30"), earliest(3));
+    }
+
+    private List<String> earliest(int limit) {
+        return slotAvailabilityService.findEarliestSlots("neurology", monday, monday.plusDays(1), limit).stream()
+                .map(offer -> offer.getDoctorId() + "@" + offer.getTime())
+                .toList();
+    }
+
+    private List<LocalTime> freeSlots(LocalDate date) {
+        return slotAvailabilityService.getAvailability(doctorId, date, date).get(0).getFreeSlots();
+    }
+
+    private Long createUser() {
+        return userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("booking" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    private AppointmentRequestDto request(Long userId, LocalDate date, LocalTime time) {
+        return AppointmentRequestDto.builder()
+                .userId(userId)
+                .doctorId(doctorId)
+                .date(date)
+                .time(time)
+                .status("SCHEDULED")
+                .build();
+    }
+}
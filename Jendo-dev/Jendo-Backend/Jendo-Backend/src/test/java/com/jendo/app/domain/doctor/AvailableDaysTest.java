@@ -0,0 +1,54 @@
+package com.jendo.app.domain.doctor;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.domain.doctor.service.AvailableDays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.THURSDAY;
+import static java.time.DayOfWeek.TUESDAY;
+import static java.time.DayOfWeek.WEDNESDAY;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvailableDaysTest {
+
+    @Test
+    @DisplayName("Common three to five letter abbreviations resolve to their day")
+    void parse_Abbreviations() {
+        assertEquals(EnumSet.of(MONDAY, TUESDAY, THURSDAY), AvailableDays.parse("Mon, Tues, Thurs"));
+        assertEquals(EnumSet.of(WEDNESDAY, THURSDAY, SATURDAY), AvailableDays.parse("Wed. / Thur & Satur"));
+        assertEquals(EnumSet.of(TUESDAY, WEDNESDAY, THURSDAY), AvailableDays.parse("Tues - Thurs"));
+        assertEquals(EnumSet.of(MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY), AvailableDays.parse("Mon to Fri"));
+        assertEquals(EnumSet.of(MONDAY, WEDNESDAY, FRIDAY), AvailableDays.parse("Monday, Wednesday and Friday"));
+    }
+
+    @Test
+    @DisplayName("Missing or entirely unknown values mean every day")
+    void parse_Unrestricted() {
+        assertEquals(EnumSet.allOf(DayOfWeek.class), AvailableDays.parse(null));
+        assertEquals(EnumSet.allOf(DayOfWeek.class), AvailableDays.parse(" "));
+        assertEquals(EnumSet.allOf(DayOfWeek.class), AvailableDays.parse("By appointment"));
+    }
+
+    @Test
+    @DisplayName("Stored values keep their known days; new values with unknown tokens are rejected")
+    void validate_UnknownTokens() {
+        assertEquals(EnumSet.of(MONDAY), AvailableDays.parse("Mon, Funday"));
+
+        BadRequestException error = assertThrows(BadRequestException.class,
+                () -> AvailableDays.validate("Mon, Funday, Tu"));
+        assertTrue(error.getMessage().contains("funday, tu"), error.getMessage());
+        assertDoesNotThrow(() -> AvailableDays.validate("Mon, Tues, Thurs"));
+        assertDoesNotThrow(() -> AvailableDays.validate("Weekdays"));
+        assertDoesNotThrow(() -> AvailableDays.validate(null));
+    }
+}
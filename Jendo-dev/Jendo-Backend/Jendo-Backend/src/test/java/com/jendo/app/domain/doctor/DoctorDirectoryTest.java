@@ -0,0 +1,86 @@
+package com.jendo.app.domain.doctor;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.domain.doctor.dto.DoctorRequestDto;
+import com.jendo.app.domain.doctor.dto.DoctorSuggestionDto;
+import com.jendo.app.domain.doctor.service.DoctorService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DoctorDirectoryTest {
+
+    @Autowired
+    private DoctorService doctorService;
+
+    @Test
+    @DisplayName("Autocomplete ranks name prefixes above specialty and hospital prefixes")
+    void autocomplete_RanksNameBeforeDetails() {
+        create("Dr. Hepworth Silva", "Dermatology", "Kandy General Hospital");
+        create("Dr. Amal Perera", "Hepatology", "Kandy General Hospital");
+        create("Dr. Nuwan Fernando", "Cardiology", "Hepburn Clinic");
+
+        assertEquals(List.of("Dr. Hepworth Silva", "Dr. Amal Perera", "Dr. Nuwan Fernando"), names("hep"));
+        assertEquals(List.of("Dr. Amal Perera", "Dr. Hepworth Silva"), names("Hepat KANDY"));
+        assertEquals(List.of("Dr. Hepworth Silva"), names("hep", 1));
+    }
+
+    @Test
+    @DisplayName("Autocomplete falls back to trigram matches for misspelt queries")
+    void autocomplete_Fuzzy() {
+        create("Dr. Ravindra Wijesekara", "Rheumatology", "Galle Teaching Hospital");
+
+        assertEquals(List.of("Dr. Ravindra Wijesekara"), names("wijesekera"));
+        assertEquals(List.of("Dr. Ravindra Wijesekara"), names("rheumatolgy"));
+        assertEquals(List.of(), names("zzzzzz"));
+    }
+
+    @Test
+    @DisplayName("Autocomplete follows committed updates and deletes")
+    void autocomplete_FollowsWrites() {
+        Long id = create("Dr. Thilini Gunasekara", "Endocrinology", "Matara Base Hospital");
+        assertEquals(List.of("Dr. Thilini Gunasekara"), names("thilini"));
+
+        doctorService.updateDoctor(id, DoctorRequestDto.builder().name("Dr. Thilini Rajapaksha").build());
+        assertEquals(List.of(), names("gunasek"));
+        assertEquals(List.of("Dr. Thilini Rajapaksha"), names("thilini raja"));
+
+        doctorService.deleteDoctor(id);
+        assertEquals(List.of(), names("thilini"));
+    }
+
+    @Test
+    @DisplayName("Autocomplete rejects limits outside 1 to 50 and ignores blank queries")
+    void autocomplete_Validation() {
+        assertThrows(BadRequestException.class, () -> doctorService.autocompleteDoctors("dr", 0));
+        assertThrows(BadRequestException.class, () -> doctorService.autocompleteDoctors("dr", 51));
+        assertEquals(List.of(), names(" - "));
+    }
+
+    private Long create(String name, String specialty, String hospital) {
+        return doctorService.createDoctor(DoctorRequestDto.builder()
+                .name(name)
+                .specialty(specialty)
+                .hospital(hospital)
+                .build()).getId();
+    }
+
+    private List<String> names(String query) {
+        return names(query, 10);
+    }
+
+    private List<String> names(String query, int limit) {
+        return doctorService.autocompleteDoctors(query, limit).stream()
+                .map(DoctorSuggestionDto::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,163 @@
+package com.jendo.app.domain.healthrecord;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jendo.app.common.exceptions.NotFoundException;
+import com.jendo.app.domain.appointment.entity.Appointment;
+import com.jendo.app.domain.appointment.repository.AppointmentRepository;
+import com.jendo.app.domain.endotestreport.entity.EndoTestReport;
+import com.jendo.app.domain.endotestreport.repository.EndoTestReportRepository;
+import com.jendo.app.domain.healthparameter.entity.HealthParameter;
+import com.jendo.app.domain.healthparameter.repository.HealthParameterRepository;
+import com.jendo.app.domain.healthrecord.service.HealthRecordFormat;
+import com.jendo.app.domain.healthrecord.service.HealthRecordExportService;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class HealthRecordExportTest {
+
+    private static final int TESTS = 1200;
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private HealthRecordExportService healthRecordExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JendoTestRepository jendoTestRepository;
+
+    @Autowired
+    private HealthParameterRepository healthParameterRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EndoTestReportRepository endoTestReportRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("export" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build());
+    }
+
+    @Test
+    @DisplayName("NDJSON export streams every record of the user in order")
+    void exportHealthRecord_Ndjson() throws IOException {
+        List<JendoTest> tests = new ArrayList<>();
+        for (int i = 0; i < TESTS; i++) {
+            tests.add(JendoTest.builder()
+                    .user(user)
+                    .score(new BigDecimal("80.5"))
+                    .heartRate(70)
+                    .riskLevel("low")
+                    .testDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .build());
+        }
+        jendoTestRepository.saveAll(tests);
+        healthParameterRepository.save(HealthParameter.builder().user(user).bloodType("O+").build());
+        appointmentRepository.save(Appointment.builder()
+                .user(user)
+                .date(LocalDate.of(2024, 2, 1))
+                .time(LocalTime.of(9, 0))
+                .build());
+        JendoTest reported = tests.get(0);
+        endoTestReportRepository.save(EndoTestReport.builder()
+                .user(user)
+                .jendoTest(reported)
+                .fileUrl("https://storage.example.com/1.pdf")
+                .fileType("pdf")
+                .build());
+
+        List<String> lines = export(HealthRecordFormat.NDJSON, false).lines().toList();
+
+        assertEquals(TESTS + 3, lines.size());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals("jendoTest", first.get("type").asText());
+        assertEquals("2024-01-01", first.get("record").get("testDate").asText());
+        assertEquals("John Doe", first.get("record").get("userName").asText());
+        assertEquals("2027-04-14", objectMapper.readTree(lines.get(TESTS - 1)).get("record").get("testDate").asText());
+        assertEquals("healthParameter", objectMapper.readTree(lines.get(TESTS)).get("type").asText());
+        assertEquals("SCHEDULED", objectMapper.readTree(lines.get(TESTS + 1)).get("record").get("status").asText());
+        JsonNode report = objectMapper.readTree(lines.get(TESTS + 2));
+        assertEquals("endoTestReport", report.get("type").asText());
+        assertEquals(reported.getId(), report.get("record").get("jendoTestId").asLong());
+    }
+
+    @Test
+    @DisplayName("CSV export writes a header per record type and can be gzipped")
+    void exportHealthRecord_GzipCsv() throws IOException {
+        healthParameterRepository.save(HealthParameter.builder().user(user).bloodType("A,B").build());
+        healthParameterRepository.save(HealthParameter.builder().user(user).bloodType("O\"+").build());
+        appointmentRepository.save(Appointment.builder()
+                .user(user)
+                .date(LocalDate.of(2024, 2, 1))
+                .time(LocalTime.of(9, 0))
+                .build());
+
+        List<String> lines = export(HealthRecordFormat.CSV, true).lines().toList();
+
+        assertEquals(5, lines.size());
+        assertEquals("type,id,userId,bloodType,height,weight,bmi,createdAt,updatedAt", lines.get(0));
+        assertTrue(lines.get(1).matches("healthParameter,\\d+," + user.getId() + ",\"A,B\",,,,.+"));
+        assertTrue(lines.get(2).contains(",\"O\"\"+\","));
+        assertTrue(lines.get(3).startsWith("type,id,userId,userName,doctorId"));
+        assertTrue(lines.get(4).startsWith("appointment,"));
+    }
+
+    @Test
+    @DisplayName("Export of an unknown user fails before streaming")
+    void exportHealthRecord_UnknownUser() {
+        assertThrows(NotFoundException.class,
+                () -> healthRecordExportService.exportHealthRecord(Long.MAX_VALUE, HealthRecordFormat.NDJSON, false));
+    }
+
+    private String export(HealthRecordFormat format, boolean gzip) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        healthRecordExportService.exportHealthRecord(user.getId(), format, gzip).writeTo(out);
+        byte[] bytes = out.toByteArray();
+        if (gzip) {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,142 @@
+package com.jendo.app.domain.healthrecord;
+
+import com.jendo.app.domain.healthparameter.repository.HealthParameterRepository;
+import com.jendo.app.domain.healthrecord.dto.HealthRecordImportResultDto;
+import com.jendo.app.domain.healthrecord.dto.ImportRowErrorDto;
+import com.jendo.app.domain.healthrecord.service.HealthRecordFormat;
+import com.jendo.app.domain.healthrecord.service.HealthRecordImportService;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.repository.JendoTestRepository;
+import com.jendo.app.domain.jendotest.service.JendoTestService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class HealthRecordImportTest {
+
+    private static final int TESTS = 2500;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private HealthRecordImportService healthRecordImportService;
+
+    @Autowired
+    private JendoTestService jendoTestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JendoTestRepository jendoTestRepository;
+
+    @Autowired
+    private HealthParameterRepository healthParameterRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("import" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("NDJSON import stores valid rows in batches and reports the rest")
+    void importHealthRecords_Ndjson() throws IOException {
+        StringBuilder upload = new StringBuilder();
+        for (int i = 0; i < TESTS; i++) {
+            upload.append("{\"type\":\"jendoTest\",\"record\":{\"userId\":").append(userId)
+                    .append(",\"score\":80,\"heartRate\":70,\"riskLevel\":\"low\",\"bloodPressure\":\"120/80\",\"testDate\":\"")
+                    .append(FIRST_DAY.plusDays(i)).append("\"}}\n");
+        }
+        upload.append("{\"type\":\"healthParameter\",\"record\":{\"userId\":").append(userId)
+                .append(",\"bloodType\":\"O+\",\"height\":175.5}}\n");
+        upload.append("\n");
+        upload.append("{\"type\":\"jendoTest\",\"record\":{\"userId\":").append(userId).append(",\"score\":\"high\"}}\n");
+        upload.append("{\"type\":\"jendoTest\",\"record\":{\"score\":50}}\n");
+        upload.append("{\"type\":\"appointment\",\"record\":{\"userId\":").append(userId).append("}}\n");
+        upload.append("{\"type\":\"jendoTest\",\"record\":{\"userId\":").append(Long.MAX_VALUE).append("}}\n");
+        upload.append("{\"type\":\"jendoTest\",\n");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        HealthRecordImportResultDto result = importRecords(upload.toString(), HealthRecordFormat.NDJSON);
+
+        assertEquals(TESTS + 6, result.getProcessed());
+        assertEquals(TESTS + 1, result.getImported());
+        assertEquals(5, result.getFailed());
+        assertEquals(List.of(TESTS + 3L, TESTS + 4L, TESTS + 5L, TESTS + 6L, TESTS + 7L),
+                result.getErrors().stream().map(ImportRowErrorDto::getLine).toList());
+        assertEquals("User ID is required", result.getErrors().get(1).getMessage());
+        assertEquals("Unsupported record type: appointment", result.getErrors().get(2).getMessage());
+        assertEquals("User not found with id: " + Long.MAX_VALUE, result.getErrors().get(3).getMessage());
+        assertTrue(statistics.getPrepareStatementCount() < TESTS / 2,
+                "expected batched inserts but saw " + statistics.getPrepareStatementCount() + " statements");
+
+        List<JendoTest> stored = jendoTestRepository.findByUserId(userId, PageRequest.of(0, TESTS + 1)).getContent();
+        assertEquals(TESTS, stored.size());
+        assertEquals(120, stored.get(0).getSystolic());
+        assertEquals(1, healthParameterRepository.findByUserId(userId, PageRequest.of(0, 10)).getTotalElements());
+
+        List<JendoTestTrendDto> years = jendoTestService.getTrend(userId, "monthly", FIRST_DAY, FIRST_DAY.plusDays(TESTS));
+        assertEquals(TESTS, years.stream().mapToLong(JendoTestTrendDto::getTestCount).sum());
+    }
+
+    @Test
+    @DisplayName("CSV import follows the export layout and quoting")
+    void importHealthRecords_Csv() throws IOException {
+        String upload = "type,id,userId,bloodType,height,weight,bmi\n"
+                + "healthParameter,7," + userId + ",\"A,B\",170,\"70.5\",\n"
+                + "healthParameter,8," + userId + ",\"O\"\"\n+\",,-3,\n"
+                + "healthParameter,9," + userId + "\n"
+                + "type,userId,score,testDate,testTime\n"
+                + "jendoTest," + userId + ",91.5,2024-03-01,08:30\n";
+
+        HealthRecordImportResultDto result = importRecords(upload, HealthRecordFormat.CSV);
+
+        assertEquals(4, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(3L, 5L), result.getErrors().stream().map(ImportRowErrorDto::getLine).toList());
+        assertEquals("Weight must be positive", result.getErrors().get(0).getMessage());
+        assertEquals("Expected 7 columns but found 3", result.getErrors().get(1).getMessage());
+        assertEquals("A,B", healthParameterRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElseThrow().getBloodType());
+        assertEquals(0, new BigDecimal("91.5").compareTo(
+                jendoTestRepository.findByUserId(userId, PageRequest.of(0, 1)).getContent().get(0).getScore()));
+    }
+
+    private HealthRecordImportResultDto importRecords(String upload, HealthRecordFormat format) throws IOException {
+        return healthRecordImportService.importHealthRecords(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,97 @@
+package com.jendo.app.domain.jendotest;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.service.JendoTestService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BloodPressureQueryTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private JendoTestService jendoTestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("pressure" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Blood pressure readings are parsed into systolic and diastolic")
+    void createTest_ParsesBloodPressure() {
+        JendoTestResponseDto test = createTest(" 145 / 92 mmHg", 1);
+        assertEquals(145, test.getSystolic());
+        assertEquals(92, test.getDiastolic());
+
+        JendoTestResponseDto unreadable = createTest("n/a", 1);
+        assertNull(unreadable.getSystolic());
+        assertNull(unreadable.getDiastolic());
+
+        JendoTestResponseDto updated = jendoTestService.updateTest(unreadable.getId(), JendoTestRequestDto.builder()
+                .userId(userId)
+                .bloodPressure("118/76")
+                .build());
+        assertEquals(118, updated.getSystolic());
+        assertEquals(76, updated.getDiastolic());
+    }
+
+    @Test
+    @DisplayName("Threshold queries filter by systolic, diastolic and look-back window")
+    void getElevatedBloodPressureTests_FiltersInQuery() {
+        Long systolicHigh = createTest("150/85", 2).getId();
+        Long diastolicHigh = createTest("130/95", 5).getId();
+        Long bothHigh = createTest("160/100", 10).getId();
+        createTest("120/80", 3);
+        createTest("170/110", 120);
+        createTest(null, 1);
+
+        assertEquals(List.of(systolicHigh, bothHigh), elevated(140, null));
+        assertEquals(List.of(diastolicHigh, bothHigh), elevated(null, 90));
+        assertEquals(List.of(systolicHigh, diastolicHigh, bothHigh), elevated(140, 90));
+        assertThrows(BadRequestException.class, () -> elevated(null, null));
+    }
+
+    private List<Long> elevated(Integer systolicAbove, Integer diastolicAbove) {
+        return jendoTestService.getElevatedBloodPressureTests(userId, systolicAbove, diastolicAbove, 90, 0, 10)
+                .getContent().stream()
+                .map(JendoTestResponseDto::getId)
+                .toList();
+    }
+
+    private JendoTestResponseDto createTest(String bloodPressure, int daysAgo) {
+        return jendoTestService.createTest(JendoTestRequestDto.builder()
+                .userId(userId)
+                .bloodPressure(bloodPressure)
+                .testDate(LocalDate.now().minusDays(daysAgo))
+                .build());
+    }
+}
@@ -0,0 +1,177 @@
+package com.jendo.app.domain.jendotest;
+
+import com.jendo.app.domain.jendotest.dto.JendoTestRequestDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestResponseDto;
+import com.jendo.app.domain.jendotest.dto.JendoTestTrendDto;
+import com.jendo.app.domain.jendotest.entity.RollupResolution;
+import com.jendo.app.domain.jendotest.service.JendoTestService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JendoTestRollupTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+    private static final LocalDate START = LocalDate.of(2024, 1, 25);
+    private static final LocalDate END = LocalDate.of(2024, 2, 29);
+    private static final int MOVE_ROUNDS = 10;
+    private static final String[] RISK_LEVELS = {"Low", "moderate", "HIGH", null};
+
+    @Autowired
+    private JendoTestService jendoTestService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("rollup" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("Rollups match the raw tests after creates, updates and deletes")
+    void trend_MatchesRawTests() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            ids.add(jendoTestService.createTest(JendoTestRequestDto.builder()
+                    .userId(userId)
+                    .score(i % 5 == 0 ? null : new BigDecimal(60 + (i * 7) % 35 + ".5"))
+                    .heartRate(i % 6 == 0 ? null : 60 + (i * 11) % 40)
+                    .riskLevel(RISK_LEVELS[i % RISK_LEVELS.length])
+                    .testDate(START.plusDays(i * 3 % 34))
+                    .build()).getId());
+        }
+        assertTrendMatchesRawTests();
+
+        jendoTestService.updateTest(ids.get(3), JendoTestRequestDto.builder()
+                .userId(userId)
+                .score(new BigDecimal("99.9"))
+                .heartRate(140)
+                .testDate(START.plusDays(33))
+                .build());
+        jendoTestService.updateTest(ids.get(7), JendoTestRequestDto.builder()
+                .userId(userId)
+                .score(new BigDecimal("10.0"))
+                .riskLevel("high")
+                .build());
+        jendoTestService.deleteTest(ids.get(3));
+        jendoTestService.deleteTest(ids.get(11));
+        assertTrendMatchesRawTests();
+    }
+
+    @Test
+    @DisplayName("Opposite moves between two users complete without deadlocking")
+    void updateTest_OppositeMoves_NoDeadlock() throws Exception {
+        Long otherUserId = userRepository.save(User.builder()
+                .firstName("Jane")
+                .lastName("Doe")
+                .email("rollup" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < MOVE_ROUNDS; round++) {
+                Long mine = createTest(userId, START.plusDays(round));
+                Long theirs = createTest(otherUserId, START.plusDays(round));
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                Future<?> there = executor.submit(() -> move(barrier, mine, otherUserId));
+                Future<?> back = executor.submit(() -> move(barrier, theirs, userId));
+                there.get(30, TimeUnit.SECONDS);
+                back.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrendMatchesRawTests();
+    }
+
+    private Long createTest(Long ownerId, LocalDate testDate) {
+        return jendoTestService.createTest(JendoTestRequestDto.builder()
+                .userId(ownerId)
+                .score(new BigDecimal("70.0"))
+                .testDate(testDate)
+                .build()).getId();
+    }
+
+    private Void move(CyclicBarrier barrier, Long testId, Long toUserId) throws Exception {
+        barrier.await(10, TimeUnit.SECONDS);
+        jendoTestService.updateTest(testId, JendoTestRequestDto.builder().userId(toUserId).build());
+        return null;
+    }
+
+    private void assertTrendMatchesRawTests() {
+        List<JendoTestResponseDto> tests = jendoTestService.getTestsByUserIdAndDateRange(userId, START, END);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            assertEquals(expectedTrend(tests, resolution),
+                    jendoTestService.getTrend(userId, resolution.name().toLowerCase(), START, END),
+                    resolution.name());
+        }
+    }
+
+    private static List<JendoTestTrendDto> expectedTrend(List<JendoTestResponseDto> tests, RollupResolution resolution) {
+        Map<LocalDate, List<JendoTestResponseDto>> buckets = new TreeMap<>();
+        for (JendoTestResponseDto test : tests) {
+            buckets.computeIfAbsent(resolution.bucketStart(test.getTestDate()), start -> new ArrayList<>()).add(test);
+        }
+
+        List<JendoTestTrendDto> trend = new ArrayList<>();
+        buckets.forEach((start, bucket) -> {
+            List<BigDecimal> scores = bucket.stream().map(JendoTestResponseDto::getScore).filter(Objects::nonNull).toList();
+            List<Integer> heartRates = bucket.stream().map(JendoTestResponseDto::getHeartRate).filter(Objects::nonNull).toList();
+            trend.add(JendoTestTrendDto.builder()
+                    .bucketStart(start)
+                    .bucketEnd(resolution.bucketEnd(start))
+                    .testCount(bucket.size())
+                    .averageScore(scores.isEmpty() ? null : scores.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
+                            .divide(BigDecimal.valueOf(scores.size()), 2, RoundingMode.HALF_UP))
+                    .minScore(scores.stream().min(BigDecimal::compareTo).orElse(null))
+                    .maxScore(scores.stream().max(BigDecimal::compareTo).orElse(null))
+                    .averageHeartRate(heartRates.isEmpty() ? null
+                            : BigDecimal.valueOf(heartRates.stream().mapToLong(Integer::longValue).sum())
+                            .divide(BigDecimal.valueOf(heartRates.size()), 2, RoundingMode.HALF_UP))
+                    .minHeartRate(heartRates.stream().min(Integer::compareTo).orElse(null))
+                    .maxHeartRate(heartRates.stream().max(Integer::compareTo).orElse(null))
+                    .lowRiskCount(countRisk(bucket, "low"))
+                    .moderateRiskCount(countRisk(bucket, "moderate"))
+                    .highRiskCount(countRisk(bucket, "high"))
+                    .build());
+        });
+        return trend;
+    }
+
+    private static long countRisk(List<JendoTestResponseDto> bucket, String riskLevel) {
+        return bucket.stream().filter(test -> riskLevel.equalsIgnoreCase(test.getRiskLevel())).count();
+    }
+}
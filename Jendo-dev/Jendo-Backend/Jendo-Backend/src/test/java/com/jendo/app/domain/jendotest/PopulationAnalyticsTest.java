@@ -0,0 +1,129 @@
+package com.jendo.app.domain.jendotest;
+
+import com.jendo.app.common.exceptions.BadRequestException;
+import com.jendo.app.domain.jendotest.dto.CohortAnalyticsDto;
+import com.jendo.app.domain.jendotest.dto.HeartRateBucketDto;
+import com.jendo.app.domain.jendotest.dto.PopulationAnalyticsDto;
+import com.jendo.app.domain.jendotest.entity.JendoTest;
+import com.jendo.app.domain.jendotest.service.JendoTestAnalyticsServiceImpl;
+import com.jendo.app.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({JendoTestAnalyticsServiceImpl.class, SimpleMeterRegistry.class})
+class PopulationAnalyticsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JendoTestAnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        User female = user("female@example.com", "Female", LocalDate.now().minusYears(35), "Sri Lankan");
+        User male = user("male@example.com", "MALE", LocalDate.now().minusYears(72), null);
+        test(female, "60", 58, "low");
+        test(female, "70", 64, "Medium");
+        test(female, "80", 71, "moderate");
+        test(female, "90", 75, "high");
+        test(male, "50", 88, "HIGH");
+        test(male, null, null, null);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Population analytics aggregate scores, risk levels and heart rates")
+    void getPopulationAnalytics_All() {
+        PopulationAnalyticsDto analytics = analyticsService.getPopulationAnalytics("all");
+
+        assertEquals("ALL", analytics.getDimension());
+        CohortAnalyticsDto all = analytics.getCohorts().get(0);
+        assertEquals("all", all.getCohort());
+        assertEquals(6, all.getTestCount());
+        assertEquals(new BigDecimal("70.00"), all.getAverageScore());
+        assertEquals(new BigDecimal("60.00"), all.getScorePercentiles().get("p25"));
+        assertEquals(new BigDecimal("70.00"), all.getScorePercentiles().get("p50"));
+        assertEquals(new BigDecimal("86.00"), all.getScorePercentiles().get("p90"));
+        assertEquals(Map.of("low", 1L, "moderate", 2L, "high", 2L, "unknown", 1L), all.getRiskLevels());
+        assertEquals(List.of(bucket(50, 1), bucket(60, 1), bucket(70, 2), bucket(80, 1)), all.getHeartRateHistogram());
+    }
+
+    @Test
+    @DisplayName("Population analytics split by gender, age and nationality")
+    void getPopulationAnalytics_ByDemographic() {
+        assertEquals(List.of("female", "male"), cohorts("gender"));
+        assertEquals(List.of("30-39", "70+"), cohorts("age"));
+        test(user("variant@example.com", " female ", null, "SRI LANKAN "), "65", 70, "low");
+        entityManager.flush();
+        assertEquals(List.of("sri lankan", "unknown"), cohorts("nationality"));
+        assertEquals(5, analyticsService.getPopulationAnalytics("nationality").getCohorts().get(0).getTestCount());
+
+        CohortAnalyticsDto male = analyticsService.getPopulationAnalytics("gender").getCohorts().get(1);
+        assertEquals(2, male.getTestCount());
+        assertEquals(new BigDecimal("50.00"), male.getScorePercentiles().get("p50"));
+        assertEquals(Map.of("high", 1L, "unknown", 1L), male.getRiskLevels());
+
+        assertThrows(BadRequestException.class, () -> analyticsService.getPopulationAnalytics("weight"));
+    }
+
+    @Test
+    @DisplayName("Population analytics are served from cache until refreshed")
+    void getPopulationAnalytics_Cached() {
+        PopulationAnalyticsDto first = analyticsService.getPopulationAnalytics("GENDER");
+        test(user("late@example.com", "other", null, null), "40", 90, "low");
+        entityManager.flush();
+
+        assertSame(first, analyticsService.getPopulationAnalytics("gender"));
+    }
+
+    private List<String> cohorts(String dimension) {
+        return analyticsService.getPopulationAnalytics(dimension).getCohorts().stream()
+                .map(CohortAnalyticsDto::getCohort)
+                .toList();
+    }
+
+    private User user(String email, String gender, LocalDate dateOfBirth, String nationality) {
+        return entityManager.persist(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email(email)
+                .password("secret")
+                .gender(gender)
+                .dateOfBirth(dateOfBirth)
+                .nationality(nationality)
+                .build());
+    }
+
+    private void test(User user, String score, Integer heartRate, String riskLevel) {
+        entityManager.persist(JendoTest.builder()
+                .user(user)
+                .score(score != null ? new BigDecimal(score) : null)
+                .heartRate(heartRate)
+                .riskLevel(riskLevel)
+                .testDate(LocalDate.now())
+                .build());
+    }
+
+    private static HeartRateBucketDto bucket(int from, long count) {
+        return HeartRateBucketDto.builder().from(from).to(from + 10).count(count).build();
+    }
+}
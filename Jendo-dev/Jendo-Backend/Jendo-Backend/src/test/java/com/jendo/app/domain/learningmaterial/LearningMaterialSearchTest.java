@@ -0,0 +1,100 @@
+package com.jendo.app.domain.learningmaterial;
+
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialRequestDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialResponseDto;
+import com.jendo.app.domain.learningmaterial.dto.LearningMaterialSearchResponseDto;
+import com.jendo.app.domain.learningmaterial.service.LearningMaterialService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LearningMaterialSearchTest {
+
+    @Autowired
+    private LearningMaterialService learningMaterialService;
+
+    @Test
+    @DisplayName("Search ranks title matches above description matches and stems terms")
+    void search_RanksAcrossFields() {
+        create("Morning stretches for stiff joints", "Gentle mobility routine", "Dr. Perera", "VIDEO", "Arthritis");
+        create("Living with arthritis", "Daily stretching helps stiff joints", "Dr. Silva", "ARTICLE", "Arthritis");
+        create("Joint friendly cooking", "Recipes for the whole family", "Chef Stretch", "ARTICLE", "Nutrition");
+
+        assertEquals(List.of("Morning stretches for stiff joints", "Joint friendly cooking", "Living with arthritis"),
+                titles(search("stretching", null, null, 0, 10)));
+        assertEquals(List.of("Living with arthritis", "Morning stretches for stiff joints"),
+                titles(search("arthritis", null, null, 0, 10)));
+        assertEquals(List.of("Morning stretches for stiff joints"), titles(search("perera", null, null, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Search returns category and type facets for every match")
+    void search_Facets() {
+        create("Salt and blood pressure", "How sodium raises pressure", "Dr. Fernando", "ARTICLE", "Hypertension");
+        create("Measuring blood pressure at home", "Cuff basics", "Dr. Fernando", "VIDEO", "Hypertension");
+        create("Pressure points massage", "Relaxation techniques", "Ms. Jayasinghe", "VIDEO", "Wellbeing");
+
+        LearningMaterialSearchResponseDto all = search("pressure", null, null, 0, 10);
+        assertEquals(3, all.getResults().getTotalElements());
+        assertEquals(Map.of("Hypertension", 2L, "Wellbeing", 1L), all.getCategories());
+        assertEquals(Map.of("VIDEO", 2L, "ARTICLE", 1L), all.getTypes());
+        assertEquals("Hypertension", all.getCategories().keySet().iterator().next());
+
+        LearningMaterialSearchResponseDto videos = search("pressure", null, "video", 0, 10);
+        assertEquals(2, videos.getResults().getTotalElements());
+        assertEquals(Map.of("Hypertension", 1L, "Wellbeing", 1L), videos.getCategories());
+        assertEquals(Map.of("VIDEO", 2L, "ARTICLE", 1L), videos.getTypes());
+    }
+
+    @Test
+    @DisplayName("Search follows committed updates and deletes and pages results")
+    void search_FollowsWritesAndPages() {
+        Long id = create("Cholesterol myths", "What the numbers mean", "Dr. Wickramasinghe", "ARTICLE", "Lipids");
+        for (int i = 0; i < 4; i++) {
+            create("Cholesterol recipe " + i, "Low fat cooking", "Kitchen team", "ARTICLE", "Lipids");
+        }
+
+        LearningMaterialSearchResponseDto second = search("cholesterol", null, null, 1, 2);
+        assertEquals(5, second.getResults().getTotalElements());
+        assertEquals(3, second.getResults().getTotalPages());
+        assertEquals(2, second.getResults().getContent().size());
+
+        learningMaterialService.updateLearningMaterial(id, LearningMaterialRequestDto.builder()
+                .title("Triglyceride myths")
+                .build());
+        assertEquals(4, search("cholesterol", null, null, 0, 10).getResults().getTotalElements());
+        assertEquals(List.of("Triglyceride myths"), titles(search("triglycerides", null, null, 0, 10)));
+
+        learningMaterialService.deleteLearningMaterial(id);
+        assertTrue(search("triglyceride", null, null, 0, 10).getResults().getContent().isEmpty());
+        assertEquals(Map.of(), search("the", null, null, 0, 10).getCategories());
+    }
+
+    private Long create(String title, String description, String author, String type, String category) {
+        return learningMaterialService.createLearningMaterial(LearningMaterialRequestDto.builder()
+                .title(title)
+                .description(description)
+                .author(author)
+                .type(type)
+                .category(category)
+                .build()).getId();
+    }
+
+    private LearningMaterialSearchResponseDto search(String query, String category, String type, int page, int size) {
+        return learningMaterialService.searchLearningMaterials(query, category, type, page, size);
+    }
+
+    private List<String> titles(LearningMaterialSearchResponseDto response) {
+        return response.getResults().getContent().stream().map(LearningMaterialResponseDto::getTitle).toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.jendo.app.domain.notification;
+
+import com.jendo.app.domain.notification.dto.NotificationRequestDto;
+import com.jendo.app.domain.notification.repository.NotificationRepository;
+import com.jendo.app.domain.notification.service.NotificationService;
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UnreadCountCacheConcurrencyTest {
+
+    private static final int INITIAL = 120;
+    private static final int CREATES = 60;
+    private static final int ROUNDS = 25;
+    private static final int ROUND_SIZE = 16;
+    private static final int THREADS = 8;
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private List<Long> notificationIds;
+
+    @BeforeEach
+    void setUp() {
+        userId = createUser();
+
+        notificationIds = new ArrayList<>();
+        for (int i = 0; i < INITIAL; i++) {
+            notificationIds.add(notificationService.createNotification(request(i)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Unread count stays exact under parallel mark-read and create traffic")
+    void unreadCount_ParallelMarkReadAndCreate_StaysExact() throws Exception {
+        assertEquals(INITIAL, notificationService.getUnreadCountByUserId(userId));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (Long id : notificationIds.subList(0, INITIAL / 2)) {
+            tasks.add(() -> notificationService.markAsRead(id));
+            tasks.add(() -> notificationService.markAsRead(id));
+        }
+        for (int i = 0; i < CREATES; i++) {
+            int index = i;
+            tasks.add(() -> notificationService.createNotification(request(index)));
+            tasks.add(() -> notificationService.getUnreadCountByUserId(userId));
+        }
+        runInParallel(tasks);
+
+        long expected = INITIAL - INITIAL / 2 + CREATES;
+        assertEquals(expected, notificationRepository.countByUserIdAndIsReadFalse(userId));
+        assertEquals(expected, notificationService.getUnreadCountByUserId(userId));
+    }
+
+    @Test
+    @DisplayName("Unread count rebuilt on a cold cache during writes stays exact")
+    void unreadCount_ColdCacheRebuildDuringWrites_StaysExact() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            userId = createUser();
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < ROUND_SIZE; i++) {
+                ids.add(notificationService.createNotification(request(i)).getId());
+            }
+
+            List<Callable<Object>> tasks = new ArrayList<>();
+            for (int i = 0; i < ROUND_SIZE; i++) {
+                int index = i;
+                tasks.add(() -> notificationService.createNotification(request(index)));
+                tasks.add(() -> notificationService.getUnreadCountByUserId(userId));
+            }
+            for (Long id : ids.subList(0, ROUND_SIZE / 2)) {
+                tasks.add(() -> notificationService.markAsRead(id));
+                tasks.add(() -> notificationService.getUnreadCountByUserId(userId));
+            }
+            for (Long id : ids.subList(ROUND_SIZE / 2, ROUND_SIZE)) {
+                tasks.add(() -> {
+                    notificationService.deleteNotification(id);
+                    return null;
+                });
+            }
+            runInParallel(tasks);
+
+            assertEquals(ROUND_SIZE, notificationRepository.countByUserIdAndIsReadFalse(userId));
+            assertEquals(ROUND_SIZE, notificationService.getUnreadCountByUserId(userId), "round " + round);
+        }
+    }
+
+    @Test
+    @DisplayName("Mark all as read reports affected rows and keeps the unread count exact")
+    void unreadCount_ParallelMarkAllAsRead_StaysExact() throws Exception {
+        assertEquals(INITIAL, notificationService.getUnreadCountByUserId(userId));
+        notificationService.markAsRead(notificationIds.get(0));
+        assertEquals(INITIAL - 1, notificationService.markAllAsRead(userId));
+        assertEquals(0, notificationService.getUnreadCountByUserId(userId));
+
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < CREATES; i++) {
+            int index = i;
+            tasks.add(() -> notificationService.createNotification(request(index)));
+            tasks.add(() -> notificationService.getUnreadCountByUserId(userId));
+        }
+        for (int i = 0; i < 4; i++) {
+            tasks.add(() -> notificationService.markAllAsRead(userId));
+        }
+        runInParallel(tasks);
+
+        assertEquals(notificationRepository.countByUserIdAndIsReadFalse(userId),
+                notificationService.getUnreadCountByUserId(userId));
+    }
+
+    private Long createUser() {
+        return userRepository.save(User.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("unread" + USERS.incrementAndGet() + "@example.com")
+                .password("secret")
+                .build()).getId();
+    }
+
+    private NotificationRequestDto request(int index) {
+        return NotificationRequestDto.builder()
+                .userId(userId)
+                .message("Reminder " + index)
+                .type("SYSTEM")
+                .build();
+    }
+
+    private void runInParallel(List<Callable<Object>> tasks) throws Exception {
+        Collections.shuffle(tasks);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
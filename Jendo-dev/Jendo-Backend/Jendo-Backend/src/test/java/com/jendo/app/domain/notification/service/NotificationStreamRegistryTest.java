@@ -0,0 +1,134 @@
+package com.jendo.app.domain.notification.service;
+
+import com.jendo.app.domain.notification.dto.NotificationResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationStreamRegistryTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final Queue<Runnable> pendingTasks = new ArrayDeque<>();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+    private NotificationStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new NotificationStreamRegistry(BUFFER_SIZE, 2, Duration.ofMinutes(1), pendingTasks::add) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Subscribe - sends the initial unread count")
+    void subscribe_SendsInitialUnreadCount() {
+        registry.subscribe(1L, 3);
+        runPendingTasks();
+
+        assertEquals(List.of("event:unread-count\ndata:3"), emitters.get(0).events);
+    }
+
+    @Test
+    @DisplayName("Publish - fans out to every connection of the user only")
+    void publishNotification_FansOutPerUser() {
+        registry.subscribe(1L, 0);
+        registry.subscribe(1L, 0);
+        registry.subscribe(2L, 0);
+        runPendingTasks();
+
+        registry.publishNotification(1L, notification(10L));
+        runPendingTasks();
+
+        assertTrue(emitters.get(0).events.get(1).startsWith("event:notification\nid:10"));
+        assertTrue(emitters.get(1).events.get(1).startsWith("event:notification\nid:10"));
+        assertEquals(1, emitters.get(2).events.size());
+    }
+
+    @Test
+    @DisplayName("Subscribe - closes the oldest connection beyond the per-user limit")
+    void subscribe_EvictsOldestConnection() {
+        registry.subscribe(1L, 0);
+        registry.subscribe(1L, 0);
+        registry.subscribe(1L, 0);
+
+        assertEquals(2, registry.connectionCount());
+    }
+
+    @Test
+    @DisplayName("Publish - a slow client is bounded by its buffer and told to resync")
+    void publishNotification_BufferFull_SendsResync() {
+        registry.subscribe(1L, 0);
+        for (long id = 1; id <= 3 * BUFFER_SIZE; id++) {
+            registry.publishNotification(1L, notification(id));
+        }
+        runPendingTasks();
+
+        List<String> events = emitters.get(0).events;
+        assertTrue(events.size() <= BUFFER_SIZE);
+        assertTrue(events.stream().anyMatch(event -> event.startsWith("event:resync")));
+    }
+
+    @Test
+    @DisplayName("Publish - a failed send removes the connection")
+    void publishNotification_SendFails_RemovesConnection() {
+        registry.subscribe(1L, 0);
+        emitters.get(0).failing = true;
+        runPendingTasks();
+
+        assertFalse(registry.hasSubscribers(1L));
+        assertEquals(0, registry.connectionCount());
+    }
+
+    private void runPendingTasks() {
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private NotificationResponseDto notification(Long id) {
+        return NotificationResponseDto.builder()
+                .id(id)
+                .userId(1L)
+                .message("Your appointment is scheduled")
+                .type("APPOINTMENT")
+                .isRead(false)
+                .build();
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            events.add(builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .collect(Collectors.joining())
+                    .trim());
+        }
+    }
+}
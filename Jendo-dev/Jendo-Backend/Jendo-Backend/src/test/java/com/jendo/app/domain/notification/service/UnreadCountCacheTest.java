@@ -0,0 +1,58 @@
+package com.jendo.app.domain.notification.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UnreadCountCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Duration TTL = Duration.ofMillis(300);
+
+    private final UnreadCountCache cache = new UnreadCountCache(100, TTL, new SimpleMeterRegistry());
+    private final AtomicLong stored = new AtomicLong(5);
+    private final AtomicLong loads = new AtomicLong();
+
+    @Test
+    @DisplayName("Cached counts are served until the TTL, then reloaded")
+    void get_ReloadsAfterTtl() throws InterruptedException {
+        assertEquals(5, get());
+        stored.set(9);
+        assertEquals(5, get());
+        assertEquals(1, loads.get());
+
+        Thread.sleep(TTL.multipliedBy(2).toMillis());
+
+        assertEquals(9, get());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Adjustments do not extend the lifetime of a drifted count")
+    void adjust_KeepsLoadDeadline() throws InterruptedException {
+        assertEquals(5, get());
+        stored.set(20);
+
+        long deadline = System.nanoTime() + TTL.multipliedBy(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            cache.adjust(USER_ID, 1);
+            stored.incrementAndGet();
+            Thread.sleep(20);
+        }
+
+        assertEquals(stored.get(), get());
+        assertEquals(2, loads.get());
+    }
+
+    private long get() {
+        return cache.get(USER_ID, userId -> {
+            loads.incrementAndGet();
+            return stored.get();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.jendo.app.domain.user;
+
+import com.jendo.app.domain.user.entity.User;
+import com.jendo.app.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class UserSearchTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        persist("Jane", "Doe", "jane.doe@example.com", "+94771234567");
+        persist("John", "Doe", "john.doe@example.com", null);
+        persist("Jane", "Smith", "jsmith@example.com", "+94770000000");
+        persist("Bob", "Janssen", "bob@example.com", null);
+        persist("Ann", "Percent", "100%_sure@example.com", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Search matches every term anywhere in the full name")
+    void search_FullName() {
+        assertEquals(List.of("Jane Doe"), names("jane do"));
+        assertEquals(List.of("Jane Doe"), names("  DOE   Jane "));
+    }
+
+    @Test
+    @DisplayName("Search ranks full-name prefix matches first")
+    void search_PrefixFirst() {
+        List<String> names = names("jan");
+
+        assertEquals(3, names.size());
+        assertTrue(names.indexOf("Bob Janssen") > names.indexOf("Jane Doe"));
+        assertTrue(names.indexOf("Bob Janssen") > names.indexOf("Jane Smith"));
+    }
+
+    @Test
+    @DisplayName("Search covers email and phone and treats wildcards literally")
+    void search_EmailPhoneAndWildcards() {
+        assertEquals(List.of("Jane Smith"), names("jsmith@"));
+        assertEquals(List.of("Jane Doe"), names("1234567"));
+        assertEquals(List.of("Ann Percent"), names("100%_"));
+        assertEquals(List.of(), names("a_n"));
+    }
+
+    @Test
+    @DisplayName("Search pages results and counts all matches")
+    void search_Paged() {
+        Page<User> page = userRepository.search("example.com", PageRequest.of(1, 2));
+
+        assertEquals(2, page.getNumberOfElements());
+        assertEquals(5, page.getTotalElements());
+        assertEquals(0, userRepository.search(" ", PageRequest.of(0, 2)).getTotalElements());
+    }
+
+    private List<String> names(String query) {
+        return userRepository.search(query, PageRequest.of(0, 10)).getContent().stream()
+                .map(user -> user.getFirstName() + " " + user.getLastName())
+                .toList();
+    }
+
+    private void persist(String firstName, String lastName, String email, String phone) {
+        entityManager.persist(User.builder()
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .phone(phone)
+                .password("secret")
+                .build());
+    }
+}
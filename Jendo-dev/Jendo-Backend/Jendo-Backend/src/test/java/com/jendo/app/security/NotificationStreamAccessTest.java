@@ -0,0 +1,71 @@
+package com.jendo.app.security;
+
+import com.jendo.app.domain.user.dto.UserRequestDto;
+import com.jendo.app.domain.user.dto.UserResponseDto;
+import com.jendo.app.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class NotificationStreamAccessTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private UserResponseDto owner;
+    private UserResponseDto other;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        other = createUser();
+    }
+
+    @Test
+    @DisplayName("A user can stream their own notifications but not another user's")
+    void streamNotifications_OnlyOwnStream() throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken(owner.getEmail(), owner.getId());
+
+        mockMvc.perform(get("/api/notifications/user/{id}/stream", owner.getId())
+                        .header("Authorization", token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        mockMvc.perform(get("/api/notifications/user/{id}/stream", other.getId())
+                        .header("Authorization", token)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+    }
+
+    private UserResponseDto createUser() {
+        return userService.createUser(UserRequestDto.builder()
+                .firstName("Stream")
+                .lastName("Owner")
+                .email("stream." + USERS.incrementAndGet() + "@example.com")
+                .password("password123")
+                .build());
+    }
+}
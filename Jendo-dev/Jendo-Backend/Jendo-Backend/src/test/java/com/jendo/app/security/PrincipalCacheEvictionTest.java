@@ -0,0 +1,104 @@
+package com.jendo.app.security;
+
+import com.jendo.app.domain.user.dto.UserRequestDto;
+import com.jendo.app.domain.user.dto.UserResponseDto;
+import com.jendo.app.domain.user.dto.UserUpdateDto;
+import com.jendo.app.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PrincipalCacheEvictionTest {
+
+    private static final AtomicLong USERS = new AtomicLong();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserResponseDto user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.createUser(UserRequestDto.builder()
+                .firstName("Cache")
+                .lastName("Principal")
+                .email("principal." + USERS.incrementAndGet() + "@example.com")
+                .password("password123")
+                .build());
+        token = "Bearer " + jwtUtil.generateToken(user.getEmail(), user.getId());
+    }
+
+    @Test
+    @DisplayName("A deleted user's token is rejected on the next request even if re-cached before commit")
+    void deleteUser_RejectsNextRequest() throws Exception {
+        mockMvc.perform(get("/api/users/me").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.email").value(user.getEmail()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.deleteUser(user.getId());
+            CompletableFuture.runAsync(() -> principalCache.get(user.getEmail(),
+                    userDetailsService::loadUserByUsername)).join();
+        });
+
+        mockMvc.perform(get("/api/users/me").header("Authorization", token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("A role change reloads the principal on the next request even if re-cached before commit")
+    void updateRoles_ReloadsPrincipalAfterCommit() {
+        principalCache.get(user.getEmail(), userDetailsService::loadUserByUsername);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.updateUser(user.getId(), UserUpdateDto.builder().roles(List.of("DOCTOR")).build());
+            CompletableFuture.runAsync(() -> principalCache.get(user.getEmail(),
+                    userDetailsService::loadUserByUsername)).join();
+        });
+
+        AtomicInteger loads = new AtomicInteger();
+        UserDetails principal = principalCache.get(user.getEmail(), email -> {
+            loads.incrementAndGet();
+            return userDetailsService.loadUserByUsername(email);
+        });
+
+        assertEquals(1, loads.get());
+        assertEquals(user.getEmail(), principal.getUsername());
+    }
+}